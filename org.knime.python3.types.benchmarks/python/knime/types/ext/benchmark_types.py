@@ -0,0 +1,4 @@
+"""
+Placeholder module referenced by the synthetic extensions that are used in the benchmarks of
+org.knime.python3.types. It does not contain any value factories or converters.
+"""
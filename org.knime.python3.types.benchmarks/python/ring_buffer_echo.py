@@ -0,0 +1,136 @@
+"""
+Stand-in for the Python side of org.knime.python3.types.port.transport.SharedMemoryRingBuffer.
+
+Reads all messages from the input ring buffer and writes them unchanged to the output ring buffer until the writer of
+the input closes it, then closes the output. Both buffers must have been created by the Java side. This allows to test
+and benchmark the transport end-to-end without a Python worker:
+
+    python ring_buffer_echo.py /dev/shm/knime-in /dev/shm/knime-out
+
+See the Javadoc of SharedMemoryRingBuffer for the layout of the buffer.
+"""
+
+import mmap
+import struct
+import sys
+import time
+
+MAGIC = 0x4B4E5242
+VERSION = 1
+FLAG_FINAL = 1 << 8
+FLAG_PADDING = 1 << 9
+FLAG_ABORT = 1 << 10
+KIND_MASK = 0xFF
+CAPACITY_OFFSET = 8
+CLOSED_OFFSET = 16
+WRITE_POSITION_OFFSET = 64
+READ_POSITION_OFFSET = 128
+DATA_OFFSET = 192
+FRAME_HEADER_SIZE = 8
+
+
+def _align(size):
+    return (size + 7) & ~7
+
+
+class RingBuffer:
+    def __init__(self, path):
+        with open(path, "r+b") as f:
+            self._map = mmap.mmap(f.fileno(), 0)
+        magic, version, capacity = struct.unpack_from("<iii", self._map, 0)
+        if magic != MAGIC or version != VERSION:
+            raise ValueError(f"{path} is not a ring buffer of version {VERSION}")
+        self._capacity = capacity
+        self._read_position = self._get_long(READ_POSITION_OFFSET)
+        self._write_position = self._get_long(WRITE_POSITION_OFFSET)
+
+    def _get_long(self, offset):
+        return struct.unpack_from("<q", self._map, offset)[0]
+
+    def _set_long(self, offset, value):
+        struct.pack_into("<q", self._map, offset, value)
+
+    def _is_closed(self):
+        return struct.unpack_from("<i", self._map, CLOSED_OFFSET)[0] != 0
+
+    def _await(self, condition):
+        spins = 0
+        while not condition():
+            spins += 1
+            if spins > 1000:
+                time.sleep(0.0001)
+
+    def read(self):
+        """Returns (kind, payload) or None once the writer has closed the buffer and everything has been read.
+
+        Messages aborted by the writer are discarded.
+        """
+        chunks = []
+        while True:
+            def available():
+                return self._get_long(WRITE_POSITION_OFFSET) != self._read_position or self._is_closed()
+
+            self._await(available)
+            if self._get_long(WRITE_POSITION_OFFSET) == self._read_position:
+                if chunks:
+                    raise ValueError("The ring buffer was closed in the middle of a message")
+                return None
+            offset = DATA_OFFSET + self._read_position % self._capacity
+            length, flags = struct.unpack_from("<ii", self._map, offset)
+            if flags & FLAG_PADDING:
+                self._consume(FRAME_HEADER_SIZE + length)
+                continue
+            if flags & FLAG_ABORT:
+                self._consume(_align(FRAME_HEADER_SIZE + length))
+                chunks = []
+                continue
+            start = offset + FRAME_HEADER_SIZE
+            chunks.append(bytes(self._map[start : start + length]))
+            self._consume(_align(FRAME_HEADER_SIZE + length))
+            if flags & FLAG_FINAL:
+                return flags & KIND_MASK, b"".join(chunks)
+
+    def _consume(self, size):
+        self._read_position += size
+        self._set_long(READ_POSITION_OFFSET, self._read_position)
+
+    def write(self, kind, payload):
+        max_frame_length = self._capacity // 2 - FRAME_HEADER_SIZE
+        view = memoryview(payload)
+        while True:
+            chunk, view = view[:max_frame_length], view[max_frame_length:]
+            self._write_frame(kind | (0 if len(view) else FLAG_FINAL), chunk)
+            if not len(view):
+                return
+
+    def _write_frame(self, flags, chunk):
+        frame_size = _align(FRAME_HEADER_SIZE + len(chunk))
+        position = self._write_position
+        offset = position % self._capacity
+        contiguous = self._capacity - offset
+        needed = frame_size if frame_size <= contiguous else contiguous + frame_size
+        self._await(lambda: position + needed - self._get_long(READ_POSITION_OFFSET) <= self._capacity)
+        if frame_size > contiguous:
+            struct.pack_into("<ii", self._map, DATA_OFFSET + offset, contiguous - FRAME_HEADER_SIZE, FLAG_PADDING)
+            position += contiguous
+            offset = 0
+        start = DATA_OFFSET + offset
+        struct.pack_into("<ii", self._map, start, len(chunk), flags)
+        self._map[start + FRAME_HEADER_SIZE : start + FRAME_HEADER_SIZE + len(chunk)] = chunk
+        self._write_position = position + frame_size
+        self._set_long(WRITE_POSITION_OFFSET, self._write_position)
+
+    def mark_closed(self):
+        struct.pack_into("<i", self._map, CLOSED_OFFSET, 1)
+
+
+def main(input_path, output_path):
+    source = RingBuffer(input_path)
+    sink = RingBuffer(output_path)
+    while (message := source.read()) is not None:
+        sink.write(*message)
+    sink.mark_closed()
+
+
+if __name__ == "__main__":
+    main(sys.argv[1], sys.argv[2])
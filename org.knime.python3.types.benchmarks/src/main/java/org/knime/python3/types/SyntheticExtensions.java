@@ -0,0 +1,238 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IContributor;
+import org.eclipse.core.runtime.IExtension;
+import org.knime.core.data.v2.ValueFactory;
+import org.knime.core.data.v2.value.BooleanValueFactory;
+import org.knime.core.data.v2.value.DoubleValueFactory;
+import org.knime.core.data.v2.value.IntValueFactory;
+import org.knime.core.data.v2.value.LongValueFactory;
+import org.knime.core.data.v2.value.StringValueFactory;
+import org.knime.python3.types.util.ModuleLocator;
+
+/**
+ * Creates synthetic {@link IExtension extensions} for the extension points of this plugin so that the registries can
+ * be benchmarked with extension sets of arbitrary size.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class SyntheticExtensions {
+
+    /**
+     * The bundle used as contributor of all synthetic extensions.
+     */
+    public static final String CONTRIBUTOR = "org.knime.python3.types";
+
+    /**
+     * The modulePath used by all synthetic modules, the python folder of this fragment.
+     */
+    public static final String MODULE_PATH = "python";
+
+    /**
+     * The system property for the root folder of this fragment, defaults to the working directory.
+     */
+    public static final String FRAGMENT_ROOT_PROPERTY = "knime.python.types.benchmarks.root";
+
+    /**
+     * Locates the modules of the synthetic extensions in the fragment's root folder, so that the registries can be set
+     * up without the OSGi framework, e.g. in the JVMs forked by JMH.
+     */
+    public static final ModuleLocator MODULE_LOCATOR = (contributor, modulePath) -> Optional
+        .of(Path.of(System.getProperty(FRAGMENT_ROOT_PROPERTY, "")).toAbsolutePath().resolve(modulePath));
+
+    /**
+     * The value factories that the synthetic PythonValueFactories are backed by. They are used round-robin.
+     */
+    static final List<ValueFactory<?, ?>> VALUE_FACTORIES = List.of(IntValueFactory.INSTANCE,
+        LongValueFactory.INSTANCE, DoubleValueFactory.INSTANCE, StringValueFactory.INSTANCE,
+        BooleanValueFactory.INSTANCE);
+
+    private SyntheticExtensions() {
+    }
+
+    /**
+     * Creates extensions for the PythonValueFactory extension point. Only the first occurrence of each Java
+     * {@link ValueFactory} is declared as default representation, all others are registered as proxy types.
+     *
+     * @param numModules the number of modules (one extension per module)
+     * @param factoriesPerModule the number of PythonValueFactories in each module
+     * @return the synthetic extensions
+     */
+    public static IExtension[] pythonValueFactoryExtensions(final int numModules, final int factoriesPerModule) {
+        var extensions = new IExtension[numModules];
+        var factoryIdx = 0;
+        for (int m = 0; m < numModules; m++) {
+            var children = new ArrayList<IConfigurationElement>();
+            for (int f = 0; f < factoriesPerModule; f++) {
+                final var valueFactory = VALUE_FACTORIES.get(factoryIdx % VALUE_FACTORIES.size());
+                children.add(element("PythonValueFactory", //
+                    Map.of("PythonClassName", "SyntheticValueFactory" + factoryIdx, //
+                        "ValueTypeName", "benchmark_types.SyntheticType" + factoryIdx, //
+                        "isDefaultPythonRepresentation", Boolean.toString(factoryIdx < VALUE_FACTORIES.size())), //
+                    Map.of("ValueFactory", () -> valueFactory)));
+                children.add(element("ToPandasColumnConverter", //
+                    Map.of("PythonClassName", "SyntheticToPandasConverter" + factoryIdx, //
+                        "ValueFactory", valueFactory.getClass().getName()), //
+                    Map.of()));
+                children.add(element("FromPandasColumnConverter", //
+                    Map.of("PythonClassName", "SyntheticFromPandasConverter" + factoryIdx, //
+                        "ValueTypeName", "benchmark_types.SyntheticType" + factoryIdx), //
+                    Map.of()));
+                factoryIdx++;
+            }
+            extensions[m] = extension(module("knime.types.ext.benchmark_types", children));
+        }
+        return extensions;
+    }
+
+    /**
+     * Creates extensions for the PythonPortObjectConverter extension point.
+     *
+     * @param numModules the number of modules (one extension per module)
+     * @param convertersPerModule the number of encoders and decoders in each module
+     * @param encoderFactory provides the Java encoder instances
+     * @param decoderFactory provides the Java decoder instances
+     * @return the synthetic extensions
+     */
+    public static IExtension[] portObjectConverterExtensions(final int numModules, final int convertersPerModule,
+        final Supplier<?> encoderFactory, final Supplier<?> decoderFactory) {
+        var extensions = new IExtension[numModules];
+        var converterIdx = 0;
+        for (int m = 0; m < numModules; m++) {
+            var children = new ArrayList<IConfigurationElement>();
+            for (int c = 0; c < convertersPerModule; c++) {
+                children.add(element("KnimeToPythonPortObjectConverter",
+                    Map.of("PythonConverterClass", "SyntheticEncoder" + converterIdx),
+                    Map.of("JavaConverterClass", encoderFactory)));
+                children.add(element("PythonToKnimePortObjectConverter",
+                    Map.of("PythonConverterClass", "SyntheticDecoder" + converterIdx),
+                    Map.of("JavaConverterClass", decoderFactory)));
+                converterIdx++;
+            }
+            extensions[m] = extension(module("benchmark_types", children));
+        }
+        return extensions;
+    }
+
+    private static IConfigurationElement module(final String moduleName, final List<IConfigurationElement> children) {
+        return element("Module", Map.of("modulePath", MODULE_PATH, "moduleName", moduleName), Map.of(),
+            children.toArray(IConfigurationElement[]::new));
+    }
+
+    private static IExtension extension(final IConfigurationElement... elements) {
+        return proxy(IExtension.class, (method, args) -> switch (method.getName()) {
+            case "getConfigurationElements" -> elements;
+            case "getContributor" -> contributor();
+            case "getExtensionPointUniqueIdentifier", "getLabel", "getNamespaceIdentifier", "getSimpleIdentifier",
+                    "getUniqueIdentifier" ->
+                null;
+            case "isValid" -> true;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static IConfigurationElement element(final String name, final Map<String, String> attributes,
+        final Map<String, Supplier<?>> executables, final IConfigurationElement... children) {
+        return proxy(IConfigurationElement.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getAttribute" -> attributes.get(args[0]);
+            case "getAttributeNames" -> attributes.keySet().toArray(String[]::new);
+            case "getChildren" -> args == null ? children : Arrays.stream(children)
+                .filter(c -> c.getName().equals(args[0])).toArray(IConfigurationElement[]::new);
+            case "createExecutableExtension" -> executables.get(args[0]).get();
+            case "getContributor" -> contributor();
+            case "getNamespaceIdentifier" -> CONTRIBUTOR;
+            case "isValid" -> true;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static IContributor contributor() {
+        return proxy(IContributor.class, (method, args) -> {
+            if ("getName".equals(method.getName())) {
+                return CONTRIBUTOR;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static <T> T proxy(final Class<T> iface, final Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> iface.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                };
+            }
+            return handler.handle(method, args);
+        };
+        return iface.cast(Proxy.newProxyInstance(SyntheticExtensions.class.getClassLoader(), new Class<?>[]{iface},
+            invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Exception; //NOSONAR
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IExtension;
+import org.knime.core.node.port.PortObject;
+import org.knime.python3.types.SyntheticExtensions;
+import org.knime.python3.types.port.converter.BenchmarkConverters;
+import org.knime.python3.types.port.converter.UntypedDelegatingPortObjectEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of the {@link PortObjectConverterExtensionPoint} and the lookup of the encoder for a
+ * {@link PortObject} class.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PortObjectConverterExtensionPointBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int numModules; //NOSONAR JMH injects parameters into public fields
+
+    @Param({"5"})
+    public int convertersPerModule; //NOSONAR JMH injects parameters into public fields
+
+    private IExtension[] m_extensions;
+
+    private PortObjectConverterExtensionPoint m_extensionPoint;
+
+    /**
+     * Creates the synthetic extensions and an extension point instance for the lookup benchmarks.
+     */
+    @Setup
+    public void setup() {
+        m_extensions = SyntheticExtensions.portObjectConverterExtensions(numModules, convertersPerModule,
+            BenchmarkConverters::createEncoder, BenchmarkConverters::createDecoder);
+        m_extensionPoint = new PortObjectConverterExtensionPoint(m_extensions, SyntheticExtensions.MODULE_LOCATOR);
+    }
+
+    /**
+     * @return an extension point parsed from the synthetic extensions
+     */
+    @Benchmark
+    public PortObjectConverterExtensionPoint construct() {
+        return new PortObjectConverterExtensionPoint(m_extensions, SyntheticExtensions.MODULE_LOCATOR);
+    }
+
+    /**
+     * @return the last registered encoder that can handle the benchmark port object
+     */
+    @Benchmark
+    public UntypedDelegatingPortObjectEncoder lookupEncoder() {
+        UntypedDelegatingPortObjectEncoder match = null;
+        for (var extension : m_extensionPoint.getKnimeToPyConverterList()) {
+            var encoder = extension.converter();
+            if (encoder.getPortObjectClass().isAssignableFrom(BenchmarkConverters.PORT_OBJECT_CLASS)) {
+                match = encoder;
+            }
+        }
+        return match;
+    }
+
+}
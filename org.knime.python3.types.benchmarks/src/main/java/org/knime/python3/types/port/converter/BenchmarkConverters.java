@@ -0,0 +1,221 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
+import org.knime.python3.types.port.ir.DeltaIntermediateRepresentation;
+import org.knime.python3.types.port.ir.EmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.port.ir.JavaBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaDeltaIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaEmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaFileIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaMultipartIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaSegmentedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaSharedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
+
+/**
+ * Converters used by the benchmarks. They convert the {@link InactiveBranchPortObject} singletons from and to
+ * pre-built intermediate representations so that the benchmarks only measure the overhead of the conversion framework.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class BenchmarkConverters {
+
+    /**
+     * The class of {@link PortObject} the benchmark converters operate on.
+     */
+    public static final Class<InactiveBranchPortObject> PORT_OBJECT_CLASS = InactiveBranchPortObject.class;
+
+    /**
+     * @param kind the kind of intermediate representation
+     * @param payloadSize the size of the payload (ignored if the kind has no payload)
+     * @return an intermediate representation of the given kind
+     */
+    public static IntermediateRepresentation createRepresentation(final IntermediateRepresentationKind kind,
+        final int payloadSize) {
+        return switch (kind) {
+            case EMPTY -> JavaEmptyIntermediateRepresentation.INSTANCE;
+            case STRING -> new JavaStringIntermediateRepresentation("x".repeat(payloadSize));
+            case BINARY -> new JavaBinaryIntermediateRepresentation(new byte[payloadSize]);
+            // the file is never read, only the framework overhead is measured
+            case FILE -> new JavaFileIntermediateRepresentation(
+                Path.of(System.getProperty("java.io.tmpdir"), "benchmark-" + payloadSize + ".bin"));
+            case SEGMENTED -> JavaSegmentedIntermediateRepresentation.builder()
+                .append(ByteBuffer.wrap(new byte[payloadSize])).build();
+            // a small header next to the payload, as in composite port objects
+            case MULTIPART -> JavaMultipartIntermediateRepresentation.builder()
+                .addString("header", "{\"size\": " + payloadSize + "}")
+                .addBinary("payload", new byte[payloadSize]).build();
+            // the first revision of a port, which carries the full representation
+            case DELTA -> new JavaDeltaIntermediateRepresentation("benchmark", 0,
+                DeltaIntermediateRepresentation.NO_BASE_REVISION, new JavaBinaryIntermediateRepresentation(
+                    new byte[payloadSize]));
+            // the first occurrence of a port object, which carries the full representation
+            case SHARED -> JavaSharedIntermediateRepresentation.full("benchmark",
+                new JavaBinaryIntermediateRepresentation(new byte[payloadSize]));
+        };
+    }
+
+    private BenchmarkConverters() {
+    }
+
+    /**
+     * @return an encoder that produces {@link EmptyIntermediateRepresentation EmptyIntermediateRepresentations}
+     */
+    public static BenchmarkEncoder createEncoder() {
+        return new BenchmarkEncoder(JavaEmptyIntermediateRepresentation.INSTANCE);
+    }
+
+    /**
+     * @return a decoder that ignores the intermediate representations it is given
+     */
+    public static BenchmarkDecoder createDecoder() {
+        return new BenchmarkDecoder();
+    }
+
+    /**
+     * Encoder returning the same intermediate representation for every port object and spec.
+     */
+    public static final class BenchmarkEncoder
+        implements PortObjectEncoder<InactiveBranchPortObject, InactiveBranchPortObjectSpec> {
+
+        private final IntermediateRepresentation m_ir;
+
+        /**
+         * @param ir returned for every port object and spec
+         */
+        public BenchmarkEncoder(final IntermediateRepresentation ir) {
+            m_ir = ir;
+        }
+
+        @Override
+        public Class<InactiveBranchPortObject> getPortObjectClass() {
+            return PORT_OBJECT_CLASS;
+        }
+
+        @Override
+        public Class<InactiveBranchPortObjectSpec> getPortObjectSpecClass() {
+            return InactiveBranchPortObjectSpec.class;
+        }
+
+        @Override
+        public PortObjectIntermediateRepresentation encodePortObject(final InactiveBranchPortObject portObject,
+            final PortObjectConversionContext context) {
+            return (PortObjectIntermediateRepresentation)m_ir;
+        }
+
+        @Override
+        public PortObjectSpecIntermediateRepresentation encodePortObjectSpec(final InactiveBranchPortObjectSpec spec,
+            final PortObjectSpecConversionContext context) {
+            // not all kinds are supported for specs
+            return m_ir instanceof PortObjectSpecIntermediateRepresentation specIr ? specIr
+                : JavaEmptyIntermediateRepresentation.INSTANCE;
+        }
+    }
+
+    /**
+     * Decoder returning the {@link InactiveBranchPortObject} singletons for every intermediate representation.
+     */
+    public static final class BenchmarkDecoder implements PortObjectDecoder<InactiveBranchPortObject, //
+            PortObjectIntermediateRepresentation, InactiveBranchPortObjectSpec, PortObjectSpecIntermediateRepresentation> {
+
+        @Override
+        public Class<InactiveBranchPortObject> getPortObjectClass() {
+            return PORT_OBJECT_CLASS;
+        }
+
+        @Override
+        public Class<InactiveBranchPortObjectSpec> getPortObjectSpecClass() {
+            return InactiveBranchPortObjectSpec.class;
+        }
+
+        @Override
+        public InactiveBranchPortObject decodePortObject(final PortObjectIntermediateRepresentation ir,
+            final InactiveBranchPortObjectSpec spec, final PortObjectConversionContext context) {
+            return InactiveBranchPortObject.INSTANCE;
+        }
+
+        @Override
+        public InactiveBranchPortObjectSpec decodePortObjectSpec(final PortObjectSpecIntermediateRepresentation ir,
+            final PortObjectSpecConversionContext context) {
+            return InactiveBranchPortObjectSpec.INSTANCE;
+        }
+    }
+
+    /**
+     * Context used by the benchmarks.
+     */
+    public static final class BenchmarkContext implements PortObjectConversionContext {
+    }
+
+    /**
+     * @return the {@link PortObjectSpec} used in the benchmarks
+     */
+    public static PortObjectSpec spec() {
+        return InactiveBranchPortObjectSpec.INSTANCE;
+    }
+
+    /**
+     * @return the {@link PortObject} used in the benchmarks
+     */
+    public static PortObject portObject() {
+        return InactiveBranchPortObject.INSTANCE;
+    }
+}
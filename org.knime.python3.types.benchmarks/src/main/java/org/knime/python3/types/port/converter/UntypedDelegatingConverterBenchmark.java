@@ -0,0 +1,149 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.knime.python3.types.port.converter.BenchmarkConverters.BenchmarkContext;
+import org.knime.python3.types.port.converter.BenchmarkConverters.BenchmarkDecoder;
+import org.knime.python3.types.port.converter.BenchmarkConverters.BenchmarkEncoder;
+import org.knime.python3.types.port.ir.IntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.port.ir.JavaEmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of encoding and decoding through the {@link UntypedDelegatingPortObjectEncoder} and
+ * {@link UntypedDelegatingPortObjectDecoder} for each kind of intermediate representation.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UntypedDelegatingConverterBenchmark {
+
+    @Param({"EMPTY", "STRING", "BINARY", "FILE", "SEGMENTED", "MULTIPART"})
+    public IntermediateRepresentationKind irKind; //NOSONAR JMH injects parameters into public fields
+
+    @Param({"1024", "1048576"})
+    public int payloadSize; //NOSONAR JMH injects parameters into public fields
+
+    private IntermediateRepresentation m_ir;
+
+    private PortObjectSpecIntermediateRepresentation m_specIr;
+
+    private UntypedDelegatingPortObjectEncoder m_encoder;
+
+    private UntypedDelegatingPortObjectDecoder m_decoder;
+
+    private final BenchmarkContext m_context = new BenchmarkContext();
+
+    /**
+     * Creates the converters and the intermediate representation of the configured kind.
+     */
+    @Setup
+    public void setup() {
+        m_ir = BenchmarkConverters.createRepresentation(irKind, payloadSize);
+        // not all kinds are supported for specs
+        m_specIr = m_ir instanceof PortObjectSpecIntermediateRepresentation specIr ? specIr
+            : JavaEmptyIntermediateRepresentation.INSTANCE;
+        m_encoder = new UntypedDelegatingPortObjectEncoder(new BenchmarkEncoder(m_ir));
+        m_decoder = new UntypedDelegatingPortObjectDecoder(new BenchmarkDecoder());
+    }
+
+    /**
+     * @return the encoded port object
+     */
+    @Benchmark
+    public PortObjectIntermediateRepresentation encodePortObject() {
+        return m_encoder.encodePortObject(BenchmarkConverters.portObject(), m_context);
+    }
+
+    /**
+     * @return the encoded spec
+     */
+    @Benchmark
+    public PortObjectSpecIntermediateRepresentation encodePortObjectSpec() {
+        return m_encoder.encodePortObjectSpec(BenchmarkConverters.spec(), m_context);
+    }
+
+    /**
+     * @return the decoded port object
+     */
+    @Benchmark
+    public Object decodePortObject() {
+        return m_decoder.decodePortObject((PortObjectIntermediateRepresentation)m_ir, BenchmarkConverters.spec(),
+            m_context);
+    }
+
+    /**
+     * @return the decoded spec
+     */
+    @Benchmark
+    public Object decodePortObjectSpec() {
+        return m_decoder.decodePortObjectSpec(m_specIr, m_context);
+    }
+
+}
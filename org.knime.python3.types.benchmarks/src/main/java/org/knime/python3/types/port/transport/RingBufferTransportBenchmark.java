@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.transport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.knime.python3.types.port.converter.BenchmarkConverters;
+import org.knime.python3.types.port.ir.IntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of sending intermediate representations through a {@link RingBufferTransport}. A thread in
+ * the same process stands in for the Python side and drains the buffer. The script python/ring_buffer_echo.py of this
+ * fragment can be used as stand-in for an end-to-end run with a real Python process.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RingBufferTransportBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"STRING", "BINARY", "SEGMENTED", "MULTIPART"})
+    public IntermediateRepresentationKind irKind; //NOSONAR JMH injects parameters into public fields
+
+    @Param({"1024", "1048576"})
+    public int payloadSize; //NOSONAR JMH injects parameters into public fields
+
+    @Param({"4194304"})
+    public int capacity; //NOSONAR JMH injects parameters into public fields
+
+    private SharedMemoryRingBuffer m_buffer;
+
+    private RingBufferTransport m_transport;
+
+    private IntermediateRepresentation m_ir;
+
+    private Thread m_reader;
+
+    /**
+     * Creates the ring buffer and starts the stand-in reader.
+     *
+     * @throws IOException if the ring buffer can't be created
+     */
+    @Setup
+    public void setup() throws IOException {
+        final var path = Files.createTempFile(SharedMemoryRingBuffer.getDefaultDirectory(), "ring-buffer-benchmark",
+            ".bin");
+        Files.delete(path);
+        m_buffer = SharedMemoryRingBuffer.create(path, capacity);
+        m_transport = new RingBufferTransport(m_buffer, TIMEOUT);
+        m_ir = BenchmarkConverters.createRepresentation(irKind, payloadSize);
+        final var reader = new RingBufferTransport(m_buffer, TIMEOUT);
+        m_reader = new Thread(() -> {
+            try {
+                while (reader.receive().isPresent()) {
+                    // drain
+                }
+            } catch (TimeoutException ex) { // NOSONAR the benchmark is over
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }, "ring-buffer-benchmark-reader");
+        m_reader.setDaemon(true);
+        m_reader.start();
+    }
+
+    /**
+     * Stops the stand-in reader and deletes the ring buffer.
+     *
+     * @throws IOException if the ring buffer can't be deleted
+     * @throws InterruptedException if interrupted while waiting for the reader
+     */
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        m_transport.sendEndOfStream();
+        m_reader.join();
+        m_buffer.close();
+    }
+
+    /**
+     * Sends one representation.
+     *
+     * @throws TimeoutException if the reader doesn't keep up
+     * @throws InterruptedException if interrupted while waiting for free space
+     */
+    @Benchmark
+    public void send() throws TimeoutException, InterruptedException {
+        m_transport.send(m_ir);
+    }
+}
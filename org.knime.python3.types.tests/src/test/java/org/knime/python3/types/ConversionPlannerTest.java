@@ -0,0 +1,126 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.v2.ReadValue;
+import org.knime.core.data.v2.ValueFactory;
+import org.knime.core.data.v2.WriteValue;
+import org.knime.core.table.access.ReadAccess;
+import org.knime.core.table.access.WriteAccess;
+import org.knime.core.table.schema.DataSpec;
+import org.knime.core.table.schema.IntDataSpec;
+import org.knime.core.table.schema.StringDataSpec;
+import org.knime.python3.types.ConversionPlan.Representation;
+
+/**
+ * Tests how {@link ConversionPlanner} compiles and caches the plans of table schemas.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class ConversionPlannerTest {
+
+    private final ConversionPlanner m_planner =
+        new ConversionPlanner(new PythonRepresentationMap(List.of()), new FusedColumnConverterIndex(List.of()));
+
+    @Test
+    void testBuiltInColumnsHaveEligibility() {
+        final var plan = m_planner.getPlan(List.of(new SpecValueFactory(IntDataSpec.INSTANCE)));
+        final var column = plan.columns().get(0);
+        assertEquals(SpecValueFactory.class.getName(), column.valueFactoryClassName());
+        assertEquals(Representation.BUILT_IN, column.representation());
+        assertNull(column.pythonValueFactory());
+        assertTrue(column.proxyRepresentations().isEmpty());
+        assertTrue(column.zeroCopyEligibility().isZeroCopyEligible());
+    }
+
+    @Test
+    void testPlansAreKeyedByValueFactoryParameters() {
+        final var ints = m_planner.getPlan(List.of(new SpecValueFactory(IntDataSpec.INSTANCE)));
+        final var strings = m_planner.getPlan(List.of(new SpecValueFactory(StringDataSpec.INSTANCE)));
+        // same ValueFactory class, different spec
+        assertNotSame(ints, strings);
+        assertFalse(strings.columns().get(0).zeroCopyEligibility().isZeroCopyEligible());
+        assertSame(ints, m_planner.getPlan(List.of(new SpecValueFactory(IntDataSpec.INSTANCE))));
+        assertEquals(1, m_planner.getCacheStatistics().hits());
+    }
+
+    private static final class SpecValueFactory implements ValueFactory<ReadAccess, WriteAccess> {
+
+        private final DataSpec m_spec;
+
+        SpecValueFactory(final DataSpec spec) {
+            m_spec = spec;
+        }
+
+        @Override
+        public ReadValue createReadValue(final ReadAccess reader) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteValue<?> createWriteValue(final WriteAccess writer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DataSpec getSpec() {
+            return m_spec;
+        }
+    }
+}
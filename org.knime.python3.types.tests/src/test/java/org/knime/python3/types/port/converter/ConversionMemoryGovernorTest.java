@@ -0,0 +1,213 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
+import org.knime.python3.types.port.converter.ConversionMemoryGovernor.MemoryLimitExceededException;
+import org.knime.python3.types.port.converter.ConversionMemoryGovernor.Policy;
+import org.knime.python3.types.port.ir.JavaBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaEmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+
+/**
+ * Tests the policies of {@link ConversionMemoryGovernor}, that its waits are bounded and how long encoders hold
+ * their reservations.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class ConversionMemoryGovernorTest {
+
+    @Test
+    void testReservationOfAnotherThreadWaits() throws Exception {
+        final var governor = new ConversionMemoryGovernor(100, Policy.BLOCK);
+        final var first = governor.reserve(80, false);
+        final var second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return governor.reserve(80, false);
+            } catch (InterruptedException ex) { // NOSONAR rethrown
+                throw new CompletionException(ex);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+        first.close();
+        second.get(10, TimeUnit.SECONDS).close();
+        assertEquals(1, governor.getStatistics().blocked());
+        assertEquals(0, governor.getStatistics().activeReservations());
+    }
+
+    @Test
+    void testThreadHoldingAReservationDoesNotWait() throws Exception {
+        final var governor = new ConversionMemoryGovernor(100, Policy.BLOCK);
+        try (var outer = governor.reserve(80, false); var nested = governor.reserve(80, false)) {
+            final var statistics = governor.getStatistics();
+            assertEquals(160, statistics.reservedBytes());
+            assertEquals(1, statistics.overcommitted());
+            assertEquals(0, statistics.blocked());
+        }
+        assertEquals(0, governor.getStatistics().reservedBytes());
+    }
+
+    @Test
+    void testSpillOnlyIfSpillable() throws Exception {
+        final var governor = new ConversionMemoryGovernor(100, Policy.SPILL);
+        try (var first = governor.reserve(80, false); var spilled = governor.reserve(80, true)) {
+            assertTrue(spilled.isSpillRequested());
+            assertEquals(0, spilled.getBytes());
+            // not spillable, granted beyond the limit because the thread already holds a reservation
+            try (var overcommitted = governor.reserve(80, false)) {
+                assertFalse(overcommitted.isSpillRequested());
+                assertEquals(160, governor.getStatistics().reservedBytes());
+            }
+        }
+    }
+
+    @Test
+    void testFailFast() throws Exception {
+        final var governor = new ConversionMemoryGovernor(100, Policy.FAIL_FAST);
+        try (var first = governor.reserve(80, false)) {
+            assertThrows(MemoryLimitExceededException.class, () -> governor.reserve(80, true));
+        }
+    }
+
+    @Test
+    void testReservationReleasedWithItsRepresentation() throws Exception {
+        final var governor = new ConversionMemoryGovernor(100, Policy.BLOCK);
+        final var representation = new JavaBinaryIntermediateRepresentation(new byte[80]);
+        TransferAcknowledgements.onRelease(representation, governor.reserve(80, false)::close);
+        assertEquals(80, governor.getStatistics().reservedBytes());
+        TransferAcknowledgements.acknowledge(representation);
+        assertEquals(0, governor.getStatistics().reservedBytes());
+    }
+
+    @Test
+    void testWaitIsBounded() throws Exception {
+        final var governor = new ConversionMemoryGovernor(100, Policy.BLOCK, Duration.ofMillis(100));
+        try (var first = governor.reserve(80, false)) {
+            // another thread, so that the reservation waits instead of overcommitting right away
+            final var second = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return governor.reserve(80, false);
+                } catch (InterruptedException ex) { // NOSONAR rethrown
+                    throw new CompletionException(ex);
+                }
+            });
+            second.get(10, TimeUnit.SECONDS).close();
+            assertEquals(1, governor.getStatistics().blocked());
+            assertEquals(1, governor.getStatistics().overcommitted());
+        }
+    }
+
+    @Test
+    void testEncodeHoldsReservationOnlyIfTransferIsAcknowledged() {
+        final var governor = ConversionMemoryGovernor.getDefault();
+        final var encoder = new UntypedDelegatingPortObjectEncoder(new EstimatingEncoder());
+        final var reserved = governor.getStatistics().reservedBytes();
+
+        encoder.encodePortObject(InactiveBranchPortObject.INSTANCE, new PortObjectConversionContext() {
+        });
+        assertEquals(reserved, governor.getStatistics().reservedBytes());
+
+        final var representation =
+            encoder.encodePortObject(InactiveBranchPortObject.INSTANCE, new PortObjectConversionContext() {
+                @Override
+                public boolean isTransferAcknowledged() {
+                    return true;
+                }
+            });
+        assertEquals(reserved + 80, governor.getStatistics().reservedBytes());
+        TransferAcknowledgements.acknowledge(representation);
+        assertEquals(reserved, governor.getStatistics().reservedBytes());
+    }
+
+    private static final class EstimatingEncoder
+        implements PortObjectEncoder<InactiveBranchPortObject, InactiveBranchPortObjectSpec> {
+
+        @Override
+        public Class<InactiveBranchPortObject> getPortObjectClass() {
+            return InactiveBranchPortObject.class;
+        }
+
+        @Override
+        public Class<InactiveBranchPortObjectSpec> getPortObjectSpecClass() {
+            return InactiveBranchPortObjectSpec.class;
+        }
+
+        @Override
+        public PortObjectIntermediateRepresentation encodePortObject(final InactiveBranchPortObject portObject,
+            final PortObjectConversionContext context) {
+            return new JavaBinaryIntermediateRepresentation(new byte[80]);
+        }
+
+        @Override
+        public PortObjectSpecIntermediateRepresentation encodePortObjectSpec(final InactiveBranchPortObjectSpec spec,
+            final PortObjectSpecConversionContext context) {
+            return JavaEmptyIntermediateRepresentation.INSTANCE;
+        }
+
+        @Override
+        public long estimatePortObjectSize(final InactiveBranchPortObject portObject) {
+            return 80;
+        }
+    }
+}
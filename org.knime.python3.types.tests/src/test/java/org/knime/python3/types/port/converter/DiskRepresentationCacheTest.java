@@ -0,0 +1,149 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
+import org.knime.python3.types.port.ir.FileBackedBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaEmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+
+/**
+ * Tests that the representations handed out by {@link DiskRepresentationCache} stay readable until they have been
+ * transferred, even if their entries are cleared in the meantime.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class DiskRepresentationCacheTest {
+
+    private static final byte[] PAYLOAD = {1, 2, 3, 4};
+
+    @TempDir
+    Path m_directory;
+
+    @Test
+    void testClearKeepsHandedOutPayloads() throws Exception {
+        final var cache = new DiskRepresentationCache(m_directory, 1 << 20);
+        final var encoder = new UntypedDelegatingPortObjectEncoder(new FingerprintedEncoder());
+        cache.encodePortObject(encoder, InactiveBranchPortObject.INSTANCE, new PortObjectConversionContext() {
+        });
+        final var cached = assertInstanceOf(FileBackedBinaryIntermediateRepresentation.class,
+            cache.encodePortObject(encoder, InactiveBranchPortObject.INSTANCE, new PortObjectConversionContext() {
+            }));
+        assertEquals(1, cache.getStatistics().hits());
+
+        cache.clear();
+        assertEquals(0, cache.getStatistics().entries());
+        assertTrue(Files.exists(cached.getPayloadPath()));
+        assertArrayEquals(PAYLOAD, cached.getBinaryRepresentation());
+
+        TransferAcknowledgements.acknowledge(cached);
+        assertFalse(Files.exists(cached.getPayloadPath()));
+    }
+
+    @Test
+    void testStaleLinksAreDeleted() throws Exception {
+        final var cache = new DiskRepresentationCache(m_directory, 1 << 20);
+        final var encoder = new UntypedDelegatingPortObjectEncoder(new FingerprintedEncoder());
+        cache.encodePortObject(encoder, InactiveBranchPortObject.INSTANCE, new PortObjectConversionContext() {
+        });
+        final var cached = assertInstanceOf(FileBackedBinaryIntermediateRepresentation.class,
+            cache.encodePortObject(encoder, InactiveBranchPortObject.INSTANCE, new PortObjectConversionContext() {
+            }));
+        // links of this process are left over from a previous process with the same process id when it is reopened
+        new DiskRepresentationCache(m_directory, 1 << 20);
+        assertFalse(Files.exists(cached.getPayloadPath()));
+    }
+
+    private static final class FingerprintedEncoder
+        implements PortObjectEncoder<InactiveBranchPortObject, InactiveBranchPortObjectSpec> {
+
+        @Override
+        public Class<InactiveBranchPortObject> getPortObjectClass() {
+            return InactiveBranchPortObject.class;
+        }
+
+        @Override
+        public Class<InactiveBranchPortObjectSpec> getPortObjectSpecClass() {
+            return InactiveBranchPortObjectSpec.class;
+        }
+
+        @Override
+        public PortObjectIntermediateRepresentation encodePortObject(final InactiveBranchPortObject portObject,
+            final PortObjectConversionContext context) {
+            return new JavaBinaryIntermediateRepresentation(PAYLOAD.clone());
+        }
+
+        @Override
+        public PortObjectSpecIntermediateRepresentation encodePortObjectSpec(final InactiveBranchPortObjectSpec spec,
+            final PortObjectSpecConversionContext context) {
+            return JavaEmptyIntermediateRepresentation.INSTANCE;
+        }
+
+        @Override
+        public Optional<String> getContentFingerprint(final InactiveBranchPortObject portObject) {
+            return Optional.of("fingerprint");
+        }
+    }
+}
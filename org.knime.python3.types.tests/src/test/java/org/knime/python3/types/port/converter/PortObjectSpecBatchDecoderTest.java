@@ -0,0 +1,123 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.StringIntermediateRepresentation;
+
+/**
+ * Tests that {@link PortObjectSpecBatchDecoder} decodes the specs of all ports from their payloads.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class PortObjectSpecBatchDecoderTest {
+
+    private static final PortObjectSpecConversionContext CONTEXT = new PortObjectSpecConversionContext() {
+    };
+
+    @Test
+    void testDecodePayloads() {
+        final var decoder = new RecordingDecoder();
+        final var batchDecoder = new PortObjectSpecBatchDecoder(List.of(new UntypedDelegatingPortObjectDecoder(decoder),
+            new UntypedDelegatingPortObjectDecoder(decoder), new UntypedDelegatingPortObjectDecoder(decoder)));
+        final var specs = batchDecoder.decodePortObjectSpecPayloads(Arrays.asList("first", null, "third"), CONTEXT);
+        assertArrayEquals(new PortObjectSpec[]{InactiveBranchPortObjectSpec.INSTANCE, null,
+            InactiveBranchPortObjectSpec.INSTANCE}, specs);
+        assertEquals(List.of("first", "third"), decoder.m_payloads);
+    }
+
+    @Test
+    void testNumberOfPayloadsMustMatch() {
+        final var batchDecoder =
+            new PortObjectSpecBatchDecoder(List.of(new UntypedDelegatingPortObjectDecoder(new RecordingDecoder())));
+        assertThrows(IllegalArgumentException.class,
+            () -> batchDecoder.decodePortObjectSpecPayloads(List.of("first", "second"), CONTEXT));
+    }
+
+    private static final class RecordingDecoder implements PortObjectDecoder<InactiveBranchPortObject,
+            PortObjectIntermediateRepresentation, InactiveBranchPortObjectSpec, StringIntermediateRepresentation> {
+
+        private final List<String> m_payloads = new ArrayList<>();
+
+        @Override
+        public Class<InactiveBranchPortObject> getPortObjectClass() {
+            return InactiveBranchPortObject.class;
+        }
+
+        @Override
+        public Class<InactiveBranchPortObjectSpec> getPortObjectSpecClass() {
+            return InactiveBranchPortObjectSpec.class;
+        }
+
+        @Override
+        public InactiveBranchPortObject decodePortObject(final PortObjectIntermediateRepresentation ir,
+            final InactiveBranchPortObjectSpec spec, final PortObjectConversionContext context) {
+            return InactiveBranchPortObject.INSTANCE;
+        }
+
+        @Override
+        public InactiveBranchPortObjectSpec decodePortObjectSpec(final StringIntermediateRepresentation ir,
+            final PortObjectSpecConversionContext context) {
+            m_payloads.add(ir.getStringRepresentation());
+            return InactiveBranchPortObjectSpec.INSTANCE;
+        }
+    }
+}
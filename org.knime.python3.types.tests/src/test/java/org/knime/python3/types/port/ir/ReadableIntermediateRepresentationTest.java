@@ -0,0 +1,111 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.ir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the readable representations can be materialized repeatedly but only streamed once.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class ReadableIntermediateRepresentationTest {
+
+    private static final String CONTENT = "{\"port\": 1}";
+
+    @Test
+    void testStringCanBeMaterializedRepeatedly() throws Exception {
+        final var representation = new JavaReadableStringIntermediateRepresentation(stream());
+        assertEquals(CONTENT, representation.getStringRepresentation());
+        assertEquals(CONTENT, representation.getStringRepresentation());
+        try (var reader = representation.openReader()) {
+            final var buffer = new char[CONTENT.length()];
+            assertEquals(CONTENT.length(), reader.read(buffer));
+            assertEquals(CONTENT, new String(buffer));
+        }
+    }
+
+    @Test
+    void testStringCanOnlyBeStreamedOnce() throws Exception {
+        final var representation = new JavaReadableStringIntermediateRepresentation(stream());
+        representation.openReader().close();
+        assertThrows(IllegalStateException.class, representation::openReader);
+        assertThrows(IllegalStateException.class, representation::getStringRepresentation);
+    }
+
+    @Test
+    void testBinaryCanBeMaterializedRepeatedly() throws Exception {
+        final var representation = new JavaReadableBinaryIntermediateRepresentation(stream());
+        final var expected = CONTENT.getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, representation.getBinaryRepresentation());
+        assertArrayEquals(expected, representation.getBinaryRepresentation());
+        try (var stream = representation.openInputStream()) {
+            assertArrayEquals(expected, stream.readAllBytes());
+        }
+    }
+
+    @Test
+    void testBinaryCanOnlyBeStreamedOnce() throws Exception {
+        final var representation = new JavaReadableBinaryIntermediateRepresentation(stream());
+        representation.openInputStream().close();
+        assertThrows(IllegalStateException.class, representation::openInputStream);
+        assertThrows(IllegalStateException.class, representation::getBinaryRepresentation);
+    }
+
+    private static ByteArrayInputStream stream() {
+        return new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.ir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the actions of {@link TransferAcknowledgements} only run once every holder of a retained representation
+ * is done with it.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class TransferAcknowledgementsTest {
+
+    @Test
+    void testActionsRunAfterLastHolder() {
+        final var representation = new JavaStringIntermediateRepresentation("payload");
+        final var acknowledged = new AtomicInteger();
+        final var released = new AtomicInteger();
+        TransferAcknowledgements.onAcknowledge(representation, acknowledged::incrementAndGet);
+        TransferAcknowledgements.onRelease(representation, released::incrementAndGet);
+        final var second = TransferAcknowledgements.retain(representation);
+
+        TransferAcknowledgements.acknowledge(second);
+        assertEquals(0, acknowledged.get());
+        assertEquals(0, released.get());
+
+        // the acknowledge actions run because one holder transferred the representation
+        TransferAcknowledgements.discard(representation);
+        assertEquals(1, acknowledged.get());
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    void testPartsAreCompletedAfterLastHolder() {
+        final var part = new JavaBinaryIntermediateRepresentation(new byte[]{1});
+        final var released = new AtomicInteger();
+        TransferAcknowledgements.onRelease(part, released::incrementAndGet);
+        final var multipart = JavaMultipartIntermediateRepresentation.builder().addPart("part", part).build();
+        TransferAcknowledgements.retain(multipart);
+
+        TransferAcknowledgements.acknowledge(multipart);
+        assertEquals(0, released.get());
+        TransferAcknowledgements.acknowledge(multipart);
+        assertEquals(1, released.get());
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.transport;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.knime.python3.types.port.transport.SharedMemoryRingBufferTest.bytes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.python3.types.port.ir.BinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.DeltaIntermediateRepresentation;
+import org.knime.python3.types.port.ir.DirectBufferPool;
+import org.knime.python3.types.port.ir.EmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.FileBackedBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.FileIntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaDeltaIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaEmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaFileIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaMultipartIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaSegmentedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaSharedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.MultipartIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PooledBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.SegmentedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.SharedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.StreamingStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.StringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+
+/**
+ * Round-trips every kind of intermediate representation that {@link RingBufferTransport} advertises.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class RingBufferTransportTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    Path m_dir;
+
+    private SharedMemoryRingBuffer m_buffer;
+
+    private RingBufferTransport m_transport;
+
+    @BeforeEach
+    void createBuffer() throws Exception {
+        // small enough that most payloads are split into several frames
+        m_buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), 1 << 12);
+        m_transport = new RingBufferTransport(m_buffer, TIMEOUT);
+    }
+
+    @AfterEach
+    void closeBuffer() throws Exception {
+        m_buffer.close();
+    }
+
+    @Test
+    void testEmpty() throws Exception {
+        assertSame(JavaEmptyIntermediateRepresentation.INSTANCE,
+            roundTrip(JavaEmptyIntermediateRepresentation.INSTANCE));
+    }
+
+    @Test
+    void testString() throws Exception {
+        final var received = roundTrip(new JavaStringIntermediateRepresentation("K\u00f6nstanz \u2713"));
+        assertEquals("K\u00f6nstanz \u2713",
+            assertInstanceOf(StringIntermediateRepresentation.class, received).getStringRepresentation());
+    }
+
+    @Test
+    void testStreamingString() throws Exception {
+        final var content = "x".repeat(10_000);
+        final var received =
+            roundTrip((StreamingStringIntermediateRepresentation)writer -> writer.write(content));
+        assertEquals(content,
+            assertInstanceOf(StringIntermediateRepresentation.class, received).getStringRepresentation());
+    }
+
+    @Test
+    void testBinary() throws Exception {
+        final var payload = bytes(5000, 1);
+        final var received = roundTrip(new JavaBinaryIntermediateRepresentation(payload));
+        assertArrayEquals(payload,
+            assertInstanceOf(BinaryIntermediateRepresentation.class, received).getBinaryRepresentation());
+    }
+
+    @Test
+    void testFileBackedBinaryIsStreamedFromTheFile() throws Exception {
+        final var payload = bytes(10_000, 2);
+        final var file = Files.write(m_dir.resolve("payload"), payload);
+        final var received = roundTrip(new FileBackedBinaryIntermediateRepresentation(file));
+        assertArrayEquals(payload,
+            assertInstanceOf(BinaryIntermediateRepresentation.class, received).getBinaryRepresentation());
+    }
+
+    @Test
+    void testFile() throws Exception {
+        final var path = m_dir.resolve("some file.bin");
+        final var received = roundTrip(new JavaFileIntermediateRepresentation(path));
+        assertEquals(path.toString(),
+            assertInstanceOf(FileIntermediateRepresentation.class, received).getFilePath());
+    }
+
+    @Test
+    void testSegmented() throws Exception {
+        final var payload = bytes(10_000, 3);
+        final var sent = JavaSegmentedIntermediateRepresentation.builder(1024);
+        sent.write(payload);
+        final var received = assertInstanceOf(SegmentedIntermediateRepresentation.class, roundTrip(sent.build()));
+        assertEquals(payload.length, received.getSize());
+        assertArrayEquals(payload, received.read(0, payload.length));
+    }
+
+    @Test
+    void testMultipart() throws Exception {
+        final var binary = bytes(3000, 4);
+        final var fileBacked = bytes(6000, 5);
+        final var file = Files.write(m_dir.resolve("payload"), fileBacked);
+        final var sent = JavaMultipartIntermediateRepresentation.builder() //
+            .addString("meta", "{\"rows\": 3}") //
+            .addBinary("data", binary) //
+            .addPart("cached", new FileBackedBinaryIntermediateRepresentation(file)) //
+            .addFile("model", m_dir.resolve("model.bin")) //
+            .build();
+        final var received = assertInstanceOf(MultipartIntermediateRepresentation.class, roundTrip(sent));
+        assertEquals(sent.getPartNames(), received.getPartNames());
+        assertEquals("{\"rows\": 3}",
+            ((StringIntermediateRepresentation)received.getPart("meta")).getStringRepresentation());
+        assertArrayEquals(binary,
+            ((BinaryIntermediateRepresentation)received.getPart("data")).getBinaryRepresentation());
+        assertArrayEquals(fileBacked,
+            ((BinaryIntermediateRepresentation)received.getPart("cached")).getBinaryRepresentation());
+        assertEquals(m_dir.resolve("model.bin").toString(),
+            ((FileIntermediateRepresentation)received.getPart("model")).getFilePath());
+    }
+
+    @Test
+    void testDelta() throws Exception {
+        final var pool = new DirectBufferPool(1 << 20);
+        final var lease = pool.lease(5000);
+        final var payload = bytes(5000, 6);
+        final var capacity = lease.getBuffer().capacity();
+        lease.getBuffer().put(payload);
+        final var pooled = new PooledBinaryIntermediateRepresentation(lease);
+        // the copy a delta tracker keeps as base of the next revision
+        final var base = pooled.retain();
+        final var sent = new JavaDeltaIntermediateRepresentation("n\u00f6de:1", 7, 3,
+            JavaMultipartIntermediateRepresentation.builder() //
+                .addString("meta", "{\"rows\": 3}") //
+                .addPart("data", pooled) //
+                .build());
+        final var received = assertInstanceOf(DeltaIntermediateRepresentation.class, roundTrip(sent));
+        assertEquals("n\u00f6de:1", received.getPortKey());
+        assertEquals(7, received.getRevision());
+        assertEquals(3, received.getBaseRevision());
+        final var multipart = assertInstanceOf(MultipartIntermediateRepresentation.class, received.getPayload());
+        assertEquals(List.of("meta", "data"), multipart.getPartNames());
+        assertArrayEquals(payload,
+            ((BinaryIntermediateRepresentation)multipart.getPart("data")).getBinaryRepresentation());
+
+        // the sent representation has been acknowledged, but the retained base keeps the buffer out of the pool
+        assertThrows(IllegalStateException.class, pooled::getBinaryBuffer);
+        assertEquals(0, pool.getStatistics().retainedBytes());
+        assertArrayEquals(payload, base.getBinaryRepresentation());
+        base.acknowledge();
+        assertEquals(capacity, pool.getStatistics().retainedBytes());
+    }
+
+    @Test
+    void testShared() throws Exception {
+        final var payload = bytes(5000, 7);
+        final var sent = JavaSharedIntermediateRepresentation.full("port#42",
+            new JavaBinaryIntermediateRepresentation(payload));
+        final var acknowledged = new AtomicBoolean();
+        TransferAcknowledgements.onAcknowledge(sent, () -> acknowledged.set(true));
+        final var full = assertInstanceOf(SharedIntermediateRepresentation.class, roundTrip(sent));
+        assertTrue(acknowledged.get());
+        assertEquals("port#42", full.getShareKey());
+        assertFalse(full.isReference());
+        assertArrayEquals(payload,
+            assertInstanceOf(BinaryIntermediateRepresentation.class, full.getPayload()).getBinaryRepresentation());
+
+        final var reference = assertInstanceOf(SharedIntermediateRepresentation.class,
+            roundTrip(JavaSharedIntermediateRepresentation.reference("port#42")));
+        assertEquals("port#42", reference.getShareKey());
+        assertTrue(reference.isReference());
+        assertInstanceOf(EmptyIntermediateRepresentation.class, reference.getPayload());
+    }
+
+    @Test
+    void testFailingStreamingStringIsAborted() throws Exception {
+        final var sender = CompletableFuture.runAsync(() -> {
+            try {
+                // more than the capacity, so that frames of the failing message reach the peer
+                assertThrows(UncheckedIOException.class,
+                    () -> m_transport.send((StreamingStringIntermediateRepresentation)writer -> {
+                        writer.write("x".repeat(10_000));
+                        throw new IOException("serialization failed");
+                    }));
+                m_transport.send(new JavaStringIntermediateRepresentation("next"));
+            } catch (Exception ex) { // NOSONAR rethrown
+                throw new CompletionException(ex);
+            }
+        });
+        final var received = m_transport.receive().orElseThrow();
+        sender.join();
+        assertEquals("next",
+            assertInstanceOf(StringIntermediateRepresentation.class, received).getStringRepresentation());
+    }
+
+    private IntermediateRepresentation roundTrip(final IntermediateRepresentation representation) throws Exception {
+        // sent concurrently, the payloads are larger than the buffer
+        final var sender = CompletableFuture.runAsync(() -> {
+            try {
+                m_transport.send(representation);
+            } catch (Exception ex) { // NOSONAR rethrown
+                throw new CompletionException(ex);
+            }
+        });
+        final var received = m_transport.receive().orElseThrow();
+        sender.join();
+        return received;
+    }
+}
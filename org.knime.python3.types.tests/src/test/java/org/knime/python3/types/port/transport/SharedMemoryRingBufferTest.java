@@ -0,0 +1,374 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.transport;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the layout of {@link SharedMemoryRingBuffer} against the specification in its Javadoc by inspecting the raw
+ * bytes of the file, and round-trips messages through the Python stand-in of the peer.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class SharedMemoryRingBufferTest {
+
+    /**
+     * The system property for the Python executable used to run the stand-in of the peer.
+     */
+    static final String PYTHON_PROPERTY = "knime.python.types.tests.python";
+
+    /**
+     * The system property for the path of the Python stand-in of the peer.
+     */
+    static final String ECHO_SCRIPT_PROPERTY = "knime.python.types.tests.echoScript";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int CAPACITY = 256;
+
+    private static final int DATA_OFFSET = 192;
+
+    @TempDir
+    Path m_dir;
+
+    @Test
+    void testHeaderAndSingleFrame() throws Exception {
+        try (var buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), CAPACITY)) {
+            final var raw = mapRaw(buffer);
+            assertEquals(SharedMemoryRingBuffer.MAGIC, raw.getInt(0), "magic");
+            assertEquals(SharedMemoryRingBuffer.VERSION, raw.getInt(4), "version");
+            assertEquals(CAPACITY, raw.getInt(8), "capacity");
+            assertEquals(0, raw.getInt(16), "closed flag");
+
+            final var payload = bytes(10, 1);
+            buffer.write(7, ByteBuffer.wrap(payload), TIMEOUT);
+            // 8 bytes header + 10 bytes payload, padded to a multiple of 8
+            assertEquals(24, writePosition(raw));
+            assertFrame(raw, 0, 10, 7 | SharedMemoryRingBuffer.FLAG_FINAL);
+            assertArrayEquals(payload, payloadAt(raw, 0, 10));
+
+            final var message = buffer.read(TIMEOUT).orElseThrow();
+            assertEquals(7, message.kind());
+            assertArrayEquals(payload, message.payload());
+            assertEquals(24, readPosition(raw));
+
+            buffer.markClosed();
+            assertEquals(1, raw.getInt(16), "closed flag");
+            assertTrue(buffer.read(TIMEOUT).isEmpty(), "a closed and drained buffer has no more messages");
+        }
+    }
+
+    @Test
+    void testMessageLargerThanHalfTheCapacityIsSplit() throws Exception {
+        try (var buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), CAPACITY)) {
+            final var raw = mapRaw(buffer);
+            final var payload = bytes(200, 2);
+            buffer.write(2, ByteBuffer.wrap(payload), TIMEOUT);
+            // a frame holds at most half the capacity minus its header
+            assertFrame(raw, 0, 120, 2);
+            assertFrame(raw, 128, 80, 2 | SharedMemoryRingBuffer.FLAG_FINAL);
+            assertEquals(216, writePosition(raw));
+
+            assertArrayEquals(payload, buffer.read(TIMEOUT).orElseThrow().payload());
+            assertEquals(216, readPosition(raw));
+        }
+    }
+
+    @Test
+    void testFrameNeverWrapsAround() throws Exception {
+        try (var buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), CAPACITY)) {
+            final var raw = mapRaw(buffer);
+            buffer.write(1, ByteBuffer.wrap(bytes(150, 3)), TIMEOUT);
+            buffer.read(TIMEOUT).orElseThrow();
+            assertEquals(168, readPosition(raw));
+
+            // 112 bytes don't fit into the 88 bytes left at the end, which are filled with a padding frame
+            final var payload = bytes(100, 4);
+            buffer.write(1, ByteBuffer.wrap(payload), TIMEOUT);
+            assertFrame(raw, 168, 80, SharedMemoryRingBuffer.FLAG_PADDING);
+            assertFrame(raw, 0, 100, 1 | SharedMemoryRingBuffer.FLAG_FINAL);
+            assertArrayEquals(payload, payloadAt(raw, 0, 100));
+            assertEquals(368, writePosition(raw));
+
+            final var message = buffer.read(TIMEOUT).orElseThrow();
+            assertEquals(1, message.kind());
+            assertArrayEquals(payload, message.payload());
+            assertEquals(368, readPosition(raw));
+        }
+    }
+
+    @Test
+    void testStreamedMessageUsesTheSameFrames() throws Exception {
+        try (var buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), CAPACITY)) {
+            final var raw = mapRaw(buffer);
+            final var payload = bytes(200, 5);
+            try (var stream = buffer.openMessage(3, TIMEOUT)) {
+                stream.write(payload);
+            }
+            assertFrame(raw, 0, 120, 3);
+            assertFrame(raw, 128, 80, 3 | SharedMemoryRingBuffer.FLAG_FINAL);
+
+            try (var stream = buffer.openNextMessage(TIMEOUT).orElseThrow()) {
+                assertEquals(3, stream.getKind());
+                assertArrayEquals(payload, stream.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void testAbortedMessageIsDiscarded() throws Exception {
+        try (var buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), CAPACITY)) {
+            final var raw = mapRaw(buffer);
+            final var stream = buffer.openMessage(3, TIMEOUT);
+            stream.write(bytes(200, 6));
+            stream.abort();
+            // the first frame has been published, the rest of the content is dropped
+            assertFrame(raw, 0, 120, 3);
+            assertFrame(raw, 128, 0, 3 | SharedMemoryRingBuffer.FLAG_ABORT);
+            final var payload = bytes(10, 7);
+            buffer.write(1, ByteBuffer.wrap(payload), TIMEOUT);
+
+            final var message = buffer.read(TIMEOUT).orElseThrow();
+            assertEquals(1, message.kind());
+            assertArrayEquals(payload, message.payload());
+        }
+    }
+
+    @Test
+    void testAbortedMessageFailsItsStream() throws Exception {
+        try (var buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), CAPACITY)) {
+            final var stream = buffer.openMessage(3, TIMEOUT);
+            stream.write(bytes(200, 8));
+            stream.abort();
+            buffer.write(1, ByteBuffer.wrap(bytes(10, 9)), TIMEOUT);
+
+            try (var aborted = buffer.openNextMessage(TIMEOUT).orElseThrow()) {
+                assertThrows(SharedMemoryRingBuffer.MessageAbortedException.class, aborted::readAllBytes);
+            }
+            try (var next = buffer.openNextMessage(TIMEOUT).orElseThrow()) {
+                assertEquals(1, next.getKind());
+                assertArrayEquals(bytes(10, 9), next.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void testUnpublishedMessageIsAbortedWithoutFrames() throws Exception {
+        try (var buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), CAPACITY)) {
+            final var stream = buffer.openMessage(3, TIMEOUT);
+            stream.write(bytes(50, 10));
+            stream.abort();
+            assertEquals(0, writePosition(mapRaw(buffer)));
+        }
+    }
+
+    @Test
+    void testBufferRefusesWritesIfAbortFails() throws Exception {
+        try (var buffer = SharedMemoryRingBuffer.create(m_dir.resolve("buffer"), 64)) {
+            // two frames fill the buffer, neither the third frame nor the abort frame fit while nobody reads
+            final var timeout = Duration.ofMillis(50);
+            assertThrows(TimeoutException.class, () -> buffer.write(2, ByteBuffer.wrap(bytes(100, 11)), timeout));
+            assertThrows(IllegalStateException.class, () -> buffer.write(1, ByteBuffer.allocate(0), timeout));
+            assertThrows(IllegalStateException.class, () -> buffer.openMessage(1, timeout));
+        }
+    }
+
+    @Test
+    void testRoundTripThroughPythonPeer() throws Exception {
+        final var python = System.getProperty(PYTHON_PROPERTY, "python3");
+        final var script = findEchoScript();
+        assumeTrue(script.isPresent(), "The Python stand-in of the peer is not available.");
+
+        final var random = new Random(42);
+        final var messages = new ArrayList<SharedMemoryRingBuffer.Message>();
+        for (int i = 0; i < 300; i++) {
+            // sizes up to more than twice the capacity, so that messages are split and frames padded
+            messages.add(new SharedMemoryRingBuffer.Message(i % 6, bytes(random.nextInt(3 * CAPACITY), i)));
+        }
+        // every tenth message is followed by an aborted one, which the peer must discard
+        final var aborted = new SharedMemoryRingBuffer.Message(7, bytes(2 * CAPACITY, -1));
+        try (var toPython = SharedMemoryRingBuffer.create(m_dir.resolve("to-python"), CAPACITY);
+                var fromPython = SharedMemoryRingBuffer.create(m_dir.resolve("from-python"), CAPACITY)) {
+            final Process process;
+            try {
+                process = new ProcessBuilder(python, script.get().toString(), toPython.getPath().toString(),
+                    fromPython.getPath().toString()).redirectErrorStream(true).start();
+            } catch (IOException ex) {
+                assumeTrue(false, "Python is not available: " + ex.getMessage());
+                return;
+            }
+            try {
+                final var writer = CompletableFuture.runAsync(() -> write(toPython, messages, aborted));
+                final var received = new ArrayList<SharedMemoryRingBuffer.Message>();
+                for (var message = fromPython.read(TIMEOUT); message.isPresent();
+                        message = fromPython.read(TIMEOUT)) {
+                    received.add(message.get());
+                }
+                writer.join();
+                assertTrue(process.waitFor(TIMEOUT.toSeconds(), TimeUnit.SECONDS), "The peer did not terminate.");
+                assertEquals(0, process.exitValue(), () -> output(process));
+                assertMessagesEqual(messages, received);
+            } finally {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * @return the script given by {@value #ECHO_SCRIPT_PROPERTY} or the one of the benchmarks fragment in the working
+     *         directory or one of its parents, which differ between the IDE and the Maven build
+     */
+    private static Optional<Path> findEchoScript() {
+        final var configured = System.getProperty(ECHO_SCRIPT_PROPERTY);
+        if (configured != null) {
+            return Optional.of(Path.of(configured)).filter(Files::isRegularFile);
+        }
+        for (var dir = Path.of("").toAbsolutePath(); dir != null; dir = dir.getParent()) {
+            final var script = dir.resolve("org.knime.python3.types.benchmarks/python/ring_buffer_echo.py");
+            if (Files.isRegularFile(script)) {
+                return Optional.of(script);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void write(final SharedMemoryRingBuffer buffer,
+        final List<SharedMemoryRingBuffer.Message> messages, final SharedMemoryRingBuffer.Message aborted) {
+        try {
+            for (int i = 0; i < messages.size(); i++) {
+                final var message = messages.get(i);
+                buffer.write(message.kind(), ByteBuffer.wrap(message.payload()), TIMEOUT);
+                if (i % 10 == 0) {
+                    final var stream = buffer.openMessage(aborted.kind(), TIMEOUT);
+                    stream.write(aborted.payload());
+                    stream.abort();
+                }
+            }
+            buffer.markClosed();
+        } catch (Exception ex) { // NOSONAR rethrown
+            throw new CompletionException(ex);
+        }
+    }
+
+    private static void assertMessagesEqual(final List<SharedMemoryRingBuffer.Message> expected,
+        final List<SharedMemoryRingBuffer.Message> actual) {
+        assertEquals(expected.size(), actual.size(), "number of messages");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).kind(), actual.get(i).kind(), "kind of message " + i);
+            assertArrayEquals(expected.get(i).payload(), actual.get(i).payload(), "payload of message " + i);
+        }
+    }
+
+    private static String output(final Process process) {
+        try {
+            return new String(process.getInputStream().readAllBytes());
+        } catch (IOException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    /**
+     * Maps the file of the buffer a second time, independently of the buffer.
+     */
+    private static ByteBuffer mapRaw(final SharedMemoryRingBuffer buffer) throws IOException {
+        try (var channel = FileChannel.open(buffer.getPath(), StandardOpenOption.READ)) {
+            return channel.map(MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private static long writePosition(final ByteBuffer raw) {
+        return raw.getLong(64);
+    }
+
+    private static long readPosition(final ByteBuffer raw) {
+        return raw.getLong(128);
+    }
+
+    private static void assertFrame(final ByteBuffer raw, final int offset, final int length, final int flags) {
+        assertEquals(length, raw.getInt(DATA_OFFSET + offset), "length of the frame at " + offset);
+        assertEquals(flags, raw.getInt(DATA_OFFSET + offset + 4), "flags of the frame at " + offset);
+    }
+
+    private static byte[] payloadAt(final ByteBuffer raw, final int offset, final int length) {
+        final var payload = new byte[length];
+        raw.get(DATA_OFFSET + offset + 8, payload);
+        return payload;
+    }
+
+    static byte[] bytes(final int length, final int seed) {
+        final var bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
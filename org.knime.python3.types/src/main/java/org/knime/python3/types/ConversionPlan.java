@@ -0,0 +1,121 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.util.List;
+
+import org.knime.core.data.v2.ValueFactory;
+
+/**
+ * Describes how the columns of a table with a particular schema are converted when the table is sent to Python.
+ * Obtained via {@link PythonValueFactoryRegistry#getConversionPlan(List)}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @param columns the conversion of each column in column order
+ */
+public record ConversionPlan(List<ColumnConversion> columns) {
+
+    /**
+     * @param columns the conversion of each column in column order
+     */
+    public ConversionPlan {
+        columns = List.copyOf(columns);
+    }
+
+    /**
+     * How the values of a column are represented in Python.
+     */
+    public enum Representation {
+            /**
+             * There is no PythonValueFactory, the column is handled by the built-in types of the Python integration.
+             */
+            BUILT_IN,
+            /**
+             * The default PythonValueFactory of the column's ValueFactory, the proxy representations are available as
+             * alternatives.
+             */
+            DEFAULT;
+    }
+
+    /**
+     * The conversion of a single column.
+     *
+     * @param valueFactoryClassName the class name of the Java {@link ValueFactory} of the column
+     * @param representation how the values of the column are represented in Python
+     * @param pythonValueFactory the default {@link PythonValueFactory} for the column or null if the representation is
+     *            {@link Representation#BUILT_IN built-in}
+     * @param proxyRepresentations the alternative PythonValueFactories for the column in registration order
+     * @param fusedConverter the pandas column converters that apply to the column
+     * @param zeroCopyEligibility the layout of the column's data, derived from its DataSpec
+     */
+    public record ColumnConversion(String valueFactoryClassName, Representation representation,
+        PythonValueFactory pythonValueFactory, List<PythonValueFactory> proxyRepresentations,
+        FusedColumnConverter fusedConverter, ZeroCopyEligibility zeroCopyEligibility) {
+
+        /**
+         * @param valueFactoryClassName the class name of the Java {@link ValueFactory} of the column
+         * @param representation how the values of the column are represented in Python
+         * @param pythonValueFactory the default {@link PythonValueFactory} for the column or null if the
+         *            representation is {@link Representation#BUILT_IN built-in}
+         * @param proxyRepresentations the alternative PythonValueFactories for the column in registration order
+         * @param fusedConverter the pandas column converters that apply to the column
+         * @param zeroCopyEligibility the layout of the column's data, derived from its DataSpec
+         */
+        public ColumnConversion {
+            proxyRepresentations = List.copyOf(proxyRepresentations);
+        }
+
+        /**
+         * @return the column converters to apply when the column is handed to the user as pandas DataFrame
+         */
+        public List<ToPandasColumnConverter> toPandasConverters() {
+            return fusedConverter.toPandasConverters();
+        }
+    }
+}
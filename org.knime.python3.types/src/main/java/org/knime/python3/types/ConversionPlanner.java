@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.core.data.v2.ValueFactory;
+import org.knime.core.data.v2.ValueFactoryUtils;
+import org.knime.core.table.schema.DataSpec;
+import org.knime.core.table.schema.traits.DataTraits;
+import org.knime.python3.types.ConversionPlan.ColumnConversion;
+import org.knime.python3.types.ConversionPlan.Representation;
+import org.knime.python3.types.PythonRepresentationMap.PythonRepresentations;
+import org.knime.python3.types.util.LruCache;
+import org.knime.python3.types.util.LruCache.CacheStatistics;
+
+/**
+ * Compiles {@link ConversionPlan ConversionPlans} for table schemas and caches them by the schema's fingerprint, which
+ * consists of the class name, DataSpec and DataTraits of the ValueFactory of each column. The DataSpec and DataTraits
+ * capture the parameters of a ValueFactory, e.g. the element factories of lists and structs or dictionary encoding,
+ * so schemas that only differ in those don't share a plan.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class ConversionPlanner {
+
+    /**
+     * The system property for the maximal number of cached conversion plans.
+     */
+    static final String CACHE_SIZE_PROPERTY = "knime.python.types.conversionPlanCacheSize";
+
+    private static final int CACHE_SIZE = Math.max(1, Integer.getInteger(CACHE_SIZE_PROPERTY, 256));
+
+    private final PythonRepresentationMap m_representations;
+
+    private final FusedColumnConverterIndex m_fusedConverters;
+
+    private final LruCache<List<ColumnKey>, ConversionPlan> m_cache = new LruCache<>(CACHE_SIZE);
+
+    /**
+     * @param representations the representations of the registered ValueFactories
+     * @param fusedConverters the pandas column converters of the registered modules
+     */
+    ConversionPlanner(final PythonRepresentationMap representations,
+        final FusedColumnConverterIndex fusedConverters) {
+        m_representations = representations;
+        m_fusedConverters = fusedConverters;
+    }
+
+    ConversionPlan getPlan(final List<? extends ValueFactory<?, ?>> valueFactories) {
+        final var schema = valueFactories.stream() //
+            .map(f -> new ColumnKey(f.getClass().getName(), f.getSpec(), ValueFactoryUtils.getTraits(f))) //
+            .toList();
+        return m_cache.computeIfAbsent(schema, this::compile);
+    }
+
+    CacheStatistics getCacheStatistics() {
+        return m_cache.getStatistics();
+    }
+
+    private ConversionPlan compile(final List<ColumnKey> schema) {
+        var columns = new ArrayList<ColumnConversion>(schema.size());
+        for (var column : schema) {
+            var valueFactory = column.valueFactoryClassName();
+            var representations = m_representations.getRepresentations(valueFactory);
+            var pythonFactory = representations.map(PythonRepresentations::defaultRepresentation).orElse(null);
+            var valueTypeName = pythonFactory == null ? null : pythonFactory.getValueTypeName();
+            columns.add(new ColumnConversion(valueFactory,
+                pythonFactory == null ? Representation.BUILT_IN : Representation.DEFAULT, pythonFactory,
+                representations.map(PythonRepresentations::proxyRepresentations).orElse(List.of()),
+                m_fusedConverters.get(valueFactory, valueTypeName),
+                ZeroCopyEligibility.analyze(column.spec(), column.traits())));
+        }
+        return new ConversionPlan(columns);
+    }
+
+    /**
+     * The fingerprint of a column, the traits may be null.
+     */
+    private record ColumnKey(String valueFactoryClassName, DataSpec spec, DataTraits traits) {
+    }
+}
@@ -59,14 +59,37 @@ public class FromPandasColumnConverter {
 
     private final String m_valueTypeName;
 
+    private final boolean m_inPlace;
+
+    private final boolean m_vectorized;
+
+    private final ColumnConverterCost m_cost;
+
     /**
      * Create a {@link FromPandasColumnConverter}
      * @param pythonClassName
      * @param valueTypeName
      */
     public FromPandasColumnConverter(final String pythonClassName, final String valueTypeName) {
+        this(pythonClassName, valueTypeName, false, true, ColumnConverterCost.MODERATE);
+    }
+
+    /**
+     * Create a {@link FromPandasColumnConverter}
+     *
+     * @param pythonClassName
+     * @param valueTypeName
+     * @param inPlace whether the converter modifies the column in place instead of creating a new one
+     * @param vectorized whether the converter operates on the whole column instead of row by row
+     * @param cost the rough cost of the converter
+     */
+    public FromPandasColumnConverter(final String pythonClassName, final String valueTypeName, final boolean inPlace,
+        final boolean vectorized, final ColumnConverterCost cost) {
         m_pythonClassName = pythonClassName;
         m_valueTypeName = valueTypeName;
+        m_inPlace = inPlace;
+        m_vectorized = vectorized;
+        m_cost = cost;
     }
 
     /**
@@ -83,4 +106,25 @@ public class FromPandasColumnConverter {
     public String getValueTypeName() {
         return m_valueTypeName;
     }
+
+    /**
+     * @return true if the converter modifies the column in place, so no defensive copy of the column is needed
+     */
+    public boolean isInPlace() {
+        return m_inPlace;
+    }
+
+    /**
+     * @return true if the converter operates on the whole column, false if it converts row by row
+     */
+    public boolean isVectorized() {
+        return m_vectorized;
+    }
+
+    /**
+     * @return the rough cost of the converter
+     */
+    public ColumnConverterCost getCost() {
+        return m_cost;
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.util.List;
+
+import org.knime.core.data.v2.ValueFactory;
+
+/**
+ * All pandas column converters that apply to one value type, grouped so that the Python side can apply them in a
+ * single pass over the column instead of one pass per converter. Obtained via
+ * {@link PythonValueFactoryRegistry#getFusedColumnConverter(String, String)}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @param valueFactoryClassName the class name of the Java {@link ValueFactory} of the value type
+ * @param valueTypeName the name of the value type in Python or null if there is no PythonValueFactory for it
+ * @param toPandasConverters the converters to apply when a column is handed to the user as pandas DataFrame, in the
+ *            order in which they are applied (cheapest first)
+ * @param fromPandasConverters the converters to apply when a column of a pandas DataFrame is passed to Arrow, in the
+ *            order in which they are applied (cheapest first)
+ */
+public record FusedColumnConverter(String valueFactoryClassName, String valueTypeName,
+    List<ToPandasColumnConverter> toPandasConverters, List<FromPandasColumnConverter> fromPandasConverters) {
+
+    /**
+     * @param valueFactoryClassName the class name of the Java {@link ValueFactory} of the value type
+     * @param valueTypeName the name of the value type in Python or null
+     * @param toPandasConverters the converters to apply when creating pandas DataFrames
+     * @param fromPandasConverters the converters to apply when passing pandas DataFrames to Arrow
+     */
+    public FusedColumnConverter {
+        toPandasConverters = List.copyOf(toPandasConverters);
+        fromPandasConverters = List.copyOf(fromPandasConverters);
+    }
+
+    /**
+     * @return true if no converter applies to the value type, i.e. the column can be passed through unchanged
+     */
+    public boolean isEmpty() {
+        return toPandasConverters.isEmpty() && fromPandasConverters.isEmpty();
+    }
+
+    /**
+     * @return true if all ToPandasColumnConverters modify the column in place, i.e. no defensive copy is needed
+     */
+    public boolean isToPandasInPlace() {
+        return toPandasConverters.stream().allMatch(ToPandasColumnConverter::isInPlace);
+    }
+
+    /**
+     * @return true if all FromPandasColumnConverters modify the column in place, i.e. no defensive copy is needed
+     */
+    public boolean isFromPandasInPlace() {
+        return fromPandasConverters.stream().allMatch(FromPandasColumnConverter::isInPlace);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Groups the {@link ToPandasColumnConverter ToPandasColumnConverters} and {@link FromPandasColumnConverter
+ * FromPandasColumnConverters} of all modules into {@link FusedColumnConverter FusedColumnConverters} and caches them
+ * by their type signature, i.e. the ValueFactory class name and value type name. Within a fused converter, cheap
+ * converters come first and converters of the same cost keep their registration order.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class FusedColumnConverterIndex {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(FusedColumnConverterIndex.class);
+
+    private final Map<String, List<ToPandasColumnConverter>> m_toPandasConverters = new HashMap<>();
+
+    private final Map<String, List<FromPandasColumnConverter>> m_fromPandasConverters = new HashMap<>();
+
+    private final Map<List<String>, FusedColumnConverter> m_cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param modules the verified modules of the registry
+     */
+    FusedColumnConverterIndex(final List<PythonValueFactoryModule> modules) {
+        for (var module : modules) {
+            for (var converter : module.getToPandasColumnConverters()) {
+                m_toPandasConverters.computeIfAbsent(converter.getValueFactory(), k -> new ArrayList<>())
+                    .add(converter);
+            }
+            for (var converter : module.getFromPandasColumnConverters()) {
+                m_fromPandasConverters.computeIfAbsent(converter.getValueTypeName(), k -> new ArrayList<>())
+                    .add(converter);
+            }
+        }
+        // List.sort is stable
+        m_toPandasConverters.values().forEach(l -> l.sort(Comparator.comparing(ToPandasColumnConverter::getCost)));
+        m_fromPandasConverters.values()
+            .forEach(l -> l.sort(Comparator.comparing(FromPandasColumnConverter::getCost)));
+    }
+
+    /**
+     * @param valueFactoryClassName the class name of the Java ValueFactory
+     * @param valueTypeName the name of the value type in Python or null if there is none
+     * @return the fused converter for the type signature
+     */
+    FusedColumnConverter get(final String valueFactoryClassName, final String valueTypeName) {
+        // List.of does not permit null elements
+        var signature = valueTypeName == null ? List.of(valueFactoryClassName)
+            : List.of(valueFactoryClassName, valueTypeName);
+        return m_cache.computeIfAbsent(signature, s -> fuse(valueFactoryClassName, valueTypeName));
+    }
+
+    private FusedColumnConverter fuse(final String valueFactoryClassName, final String valueTypeName) {
+        var fromPandas = valueTypeName == null ? List.<FromPandasColumnConverter> of()
+            : m_fromPandasConverters.getOrDefault(valueTypeName, List.of());
+        var fused = new FusedColumnConverter(valueFactoryClassName, valueTypeName,
+            m_toPandasConverters.getOrDefault(valueFactoryClassName, List.of()), fromPandas);
+        warnAboutRowWiseConverters(fused);
+        return fused;
+    }
+
+    /**
+     * The size of the tables is not known here, therefore the warning is logged once per type signature, i.e. when the
+     * fused converter is created.
+     */
+    private static void warnAboutRowWiseConverters(final FusedColumnConverter fused) {
+        var rowWise = Stream.concat( //
+            fused.toPandasConverters().stream().filter(c -> !c.isVectorized())
+                .map(ToPandasColumnConverter::getPythonClassName), //
+            fused.fromPandasConverters().stream().filter(c -> !c.isVectorized())
+                .map(FromPandasColumnConverter::getPythonClassName)) //
+            .toList();
+        if (!rowWise.isEmpty()) {
+            LOGGER.warn("The column converters " + rowWise + " for " + fused.valueFactoryClassName()
+                + " are not vectorized and convert row by row, which is slow for large tables.");
+        }
+    }
+}
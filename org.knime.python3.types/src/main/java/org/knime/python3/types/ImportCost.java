@@ -0,0 +1,86 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.time.Duration;
+
+/**
+ * The cost of importing a {@link PythonModule} in a fresh Python process as measured by the
+ * {@link PythonImportProfiler}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @param moduleName the name of the imported module
+ * @param contributor the symbolic name of the bundle that contributes the module
+ * @param importTime the wall-clock time the import took
+ * @param peakTracedMemory the peak of the memory allocated by Python during the import in bytes (as reported by
+ *            tracemalloc) or -1 if unknown
+ * @param residentSetGrowth the growth of the maximum resident set size of the process during the import in bytes or
+ *            -1 if unknown, e.g. on Windows
+ * @param error the error that occurred during the import or null if the import succeeded
+ */
+public record ImportCost(String moduleName, String contributor, Duration importTime, long peakTracedMemory,
+    long residentSetGrowth, String error) {
+
+    /**
+     * @param moduleName the name of the module
+     * @param contributor the symbolic name of the contributing bundle
+     * @param error describes why the import could not be measured
+     * @return the cost of an import that could not be measured
+     */
+    static ImportCost failed(final String moduleName, final String contributor, final String error) {
+        return new ImportCost(moduleName, contributor, Duration.ZERO, -1, -1, error);
+    }
+
+    /**
+     * @return true if the module could be imported
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures the cost of importing {@link PythonModule PythonModules}. Each module is imported in a fresh Python process
+ * so that the measurement includes everything the module pulls in but not the startup of the interpreter itself.
+ * Modules are profiled one after the other because concurrent imports would distort the timings.
+ *
+ * This is a diagnostic that is meant to find modules that slow down the startup of Python workers and should
+ * therefore be imported lazily or ahead of time.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class PythonImportProfiler {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PythonImportProfiler.class);
+
+    /**
+     * Imports the module given as first argument with stdout silenced and prints the measurements as JSON. The second
+     * argument is the parent directory of the module, which is put first on the Python path. json is only imported
+     * after the measurement so that it is accounted to modules that use it. ru_maxrss is in kilobytes on Linux and in
+     * bytes on macOS.
+     */
+    private static final String SCRIPT = """
+        import importlib, os, sys, time, tracemalloc
+        try:
+            import resource
+            def max_rss():
+                rss = resource.getrusage(resource.RUSAGE_SELF).ru_maxrss
+                return rss if sys.platform == "darwin" else rss * 1024
+        except ImportError:
+            def max_rss():
+                return -1
+        sys.path.insert(0, sys.argv[2])
+        stdout = sys.stdout
+        sys.stdout = open(os.devnull, "w")
+        error = None
+        rss_before = max_rss()
+        tracemalloc.start()
+        start = time.perf_counter_ns()
+        try:
+            importlib.import_module(sys.argv[1])
+        except BaseException as e:
+            error = repr(e)
+        elapsed = time.perf_counter_ns() - start
+        peak = tracemalloc.get_traced_memory()[1]
+        tracemalloc.stop()
+        rss_after = max_rss()
+        sys.stdout = stdout
+        import json
+        print(json.dumps({"time_ns": elapsed, "peak_traced": peak,
+            "rss_growth": -1 if rss_before < 0 else rss_after - rss_before, "error": error}))
+        """;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path m_pythonExecutable;
+
+    private final List<Path> m_additionalPythonPath;
+
+    private final Duration m_timeout;
+
+    /**
+     * @param pythonExecutable the Python interpreter to profile with, i.e. the one used by the Python workers
+     * @param additionalPythonPath entries that are needed on the Python path for the modules to be importable, e.g. the
+     *            location of the knime package
+     * @param timeout after which the import of a single module is aborted
+     */
+    public PythonImportProfiler(final Path pythonExecutable, final List<Path> additionalPythonPath,
+        final Duration timeout) {
+        m_pythonExecutable = pythonExecutable;
+        m_additionalPythonPath = List.copyOf(additionalPythonPath);
+        m_timeout = timeout;
+    }
+
+    /**
+     * Profiles the import of a single module.
+     *
+     * @param module the module to import
+     * @param contributor the symbolic name of the bundle that contributes the module
+     * @return the cost of the import, an unsuccessful result if the module could not be imported
+     */
+    public ImportCost profile(final PythonModule module, final String contributor) {
+        final var moduleName = module.getModuleName();
+        final var pb = new ProcessBuilder(m_pythonExecutable.toString(), "-c", SCRIPT, moduleName,
+            module.getParentDirectory().toString());
+        pb.environment().put("PYTHONPATH", getPythonPath(pb.environment().get("PYTHONPATH")));
+        pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+        try {
+            final var process = pb.start();
+            if (!process.waitFor(m_timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                return ImportCost.failed(moduleName, contributor, "Import timed out after " + m_timeout + ".");
+            }
+            final var output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).strip();
+            if (process.exitValue() != 0 || output.isEmpty()) {
+                return ImportCost.failed(moduleName, contributor,
+                    "The Python process exited with code " + process.exitValue() + ".");
+            }
+            final var result = MAPPER.readTree(output);
+            final var error = result.path("error");
+            return new ImportCost(moduleName, contributor, Duration.ofNanos(result.path("time_ns").asLong()),
+                result.path("peak_traced").asLong(-1), result.path("rss_growth").asLong(-1),
+                error.isTextual() ? error.asText() : null);
+        } catch (IOException ex) {
+            LOGGER.debug("Could not profile the import of " + moduleName + ".", ex);
+            return ImportCost.failed(moduleName, contributor, ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return ImportCost.failed(moduleName, contributor, "Interrupted.");
+        }
+    }
+
+    private String getPythonPath(final String existing) {
+        final var entries = new ArrayList<String>();
+        m_additionalPythonPath.forEach(p -> entries.add(p.toString()));
+        if (existing != null && !existing.isEmpty()) {
+            entries.add(existing);
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+}
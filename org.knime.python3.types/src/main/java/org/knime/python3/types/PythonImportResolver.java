@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.python3.types.port.PortObjectConverterExtensionPoint;
+import org.knime.python3.types.port.PythonImplementation;
+import org.knime.python3.types.port.PythonPortObjectConverterExtension;
+import org.knime.python3.types.port.converter.UntypedPortObjectConverter;
+
+/**
+ * Determines the minimal set of Python modules and classes a node needs, given the types of its ports and the
+ * ValueFactories of its columns. This allows Python workers to only import what a node actually uses instead of all
+ * modules contributed by the installed extensions.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class PythonImportResolver {
+
+    private final Map<Class<?>, PythonImplementation> m_encoders;
+
+    private final Map<Class<?>, PythonImplementation> m_decoders;
+
+    private final PythonRepresentationMap m_representations;
+
+    private final FusedColumnConverterIndex m_fusedConverters;
+
+    /** The module that declares each PythonValueFactory and column converter. */
+    private final Map<Object, PythonValueFactoryModule> m_declaringModules = new IdentityHashMap<>();
+
+    PythonImportResolver(final List<PythonValueFactoryModule> modules, final PythonRepresentationMap representations,
+        final FusedColumnConverterIndex fusedConverters,
+        final List<? extends PythonPortObjectConverterExtension<?>> encoders,
+        final List<? extends PythonPortObjectConverterExtension<?>> decoders) {
+        m_representations = representations;
+        m_fusedConverters = fusedConverters;
+        m_encoders = indexByPortObjectClass(encoders);
+        m_decoders = indexByPortObjectClass(decoders);
+        for (var module : modules) {
+            module.forEach(f -> m_declaringModules.put(f, module));
+            module.getToPandasColumnConverters().forEach(c -> m_declaringModules.put(c, module));
+            module.getFromPandasColumnConverters().forEach(c -> m_declaringModules.put(c, module));
+        }
+    }
+
+    private static final class InstanceHolder {
+        private static final PythonImportResolver INSTANCE = new PythonImportResolver(
+            PythonValueFactoryRegistry.getModules(), PythonValueFactoryRegistry.getRepresentationMap(),
+            PythonValueFactoryRegistry.getFusedColumnConverterIndex(),
+            PortObjectConverterExtensionPoint.getKnimeToPyConverters(),
+            PortObjectConverterExtensionPoint.getPyToKnimeConverters());
+    }
+
+    /**
+     * @return the resolver for the registered extensions
+     */
+    public static PythonImportResolver getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private static Map<Class<?>, PythonImplementation>
+        indexByPortObjectClass(final List<? extends PythonPortObjectConverterExtension<?>> extensions) {
+        var index = new HashMap<Class<?>, PythonImplementation>();
+        for (var extension : extensions) {
+            // the first registered converter wins
+            index.putIfAbsent(((UntypedPortObjectConverter)extension.converter()).getPortObjectClass(),
+                extension.pythonImplementation());
+        }
+        return index;
+    }
+
+    /**
+     * Resolves the Python modules and classes that are needed by a node. Port types without a registered converter and
+     * ValueFactories without a PythonValueFactory are handled by the Python integration itself and don't contribute
+     * any imports.
+     *
+     * @param inputPortTypes the types of the port objects that are passed to Python
+     * @param outputPortTypes the types of the port objects that are created in Python
+     * @param valueFactoryClassNames the class names of the ValueFactories of the columns of the input and output tables
+     * @return the modules and classes to import
+     */
+    public PythonImports resolve(final Collection<Class<? extends PortObject>> inputPortTypes,
+        final Collection<Class<? extends PortObject>> outputPortTypes,
+        final Collection<String> valueFactoryClassNames) {
+        var modules = new LinkedHashMap<String, PythonModule>();
+        var classNames = new LinkedHashMap<String, Set<String>>();
+        for (var portType : inputPortTypes) {
+            findConverter(m_encoders, portType)
+                .ifPresent(impl -> add(modules, classNames, impl, impl.pythonClassName()));
+        }
+        for (var portType : outputPortTypes) {
+            findConverter(m_decoders, portType)
+                .ifPresent(impl -> add(modules, classNames, impl, impl.pythonClassName()));
+        }
+        for (var valueFactory : valueFactoryClassNames) {
+            var pythonFactory = m_representations.getDefaultRepresentation(valueFactory);
+            pythonFactory.ifPresent(f -> addDeclared(modules, classNames, f, f.getPythonValueFactoryName()));
+            var fused = m_fusedConverters.get(valueFactory,
+                pythonFactory.map(PythonValueFactory::getValueTypeName).orElse(null));
+            fused.toPandasConverters().forEach(c -> addDeclared(modules, classNames, c, c.getPythonClassName()));
+            fused.fromPandasConverters().forEach(c -> addDeclared(modules, classNames, c, c.getPythonClassName()));
+        }
+        var classNamesByModule = new LinkedHashMap<String, List<String>>();
+        classNames.forEach((module, names) -> classNamesByModule.put(module, new ArrayList<>(names)));
+        return new PythonImports(new ArrayList<>(modules.values()), classNamesByModule);
+    }
+
+    /**
+     * Walks up the class hierarchy of the port type because converters are also used for subclasses of the port object
+     * class they are registered for.
+     */
+    private static Optional<PythonImplementation> findConverter(final Map<Class<?>, PythonImplementation> converters,
+        final Class<?> portType) {
+        for (Class<?> c = portType; c != null; c = c.getSuperclass()) {
+            var converter = converters.get(c);
+            if (converter != null) {
+                return Optional.of(converter);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void addDeclared(final Map<String, PythonModule> modules, final Map<String, Set<String>> classNames,
+        final Object declared, final String className) {
+        var module = m_declaringModules.get(declared);
+        if (module != null) {
+            add(modules, classNames, module, className);
+        }
+    }
+
+    private static void add(final Map<String, PythonModule> modules, final Map<String, Set<String>> classNames,
+        final PythonModule module, final String className) {
+        modules.putIfAbsent(module.getModuleName(), module);
+        classNames.computeIfAbsent(module.getModuleName(), k -> new LinkedHashSet<>()).add(className);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.knime.core.data.v2.ValueFactory;
+
+/**
+ * Immutable lookup of the Python representations registered for Java {@link ValueFactory ValueFactories}. Built once
+ * the default and proxy representations have been settled by the {@link PythonValueFactoryRegistry}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class PythonRepresentationMap {
+
+    private final Map<String, PythonRepresentations> m_byValueFactory;
+
+    private final Map<String, PythonValueFactory> m_byValueTypeName;
+
+    /**
+     * The Python representations of a single Java ValueFactory.
+     *
+     * @param defaultRepresentation the representation used by default
+     * @param proxyRepresentations the alternative representations in registration order
+     */
+    public record PythonRepresentations(PythonValueFactory defaultRepresentation,
+        List<PythonValueFactory> proxyRepresentations) {
+
+        /**
+         * @param defaultRepresentation the representation used by default
+         * @param proxyRepresentations the alternative representations in registration order
+         */
+        public PythonRepresentations {
+            proxyRepresentations = List.copyOf(proxyRepresentations);
+        }
+    }
+
+    /**
+     * @param modules the verified modules, i.e. each ValueFactory has exactly one default representation
+     */
+    PythonRepresentationMap(final List<PythonValueFactoryModule> modules) {
+        var defaults = new LinkedHashMap<String, PythonValueFactory>();
+        var proxies = new HashMap<String, List<PythonValueFactory>>();
+        var byValueTypeName = new HashMap<String, PythonValueFactory>();
+        for (var module : modules) {
+            for (var factory : module) {
+                var valueFactory = factory.getValueFactoryClassName();
+                if (factory.isDefaultPythonRepresentation()) {
+                    defaults.putIfAbsent(valueFactory, factory);
+                } else {
+                    proxies.computeIfAbsent(valueFactory, k -> new ArrayList<>()).add(factory);
+                }
+                byValueTypeName.putIfAbsent(factory.getValueTypeName(), factory);
+            }
+        }
+        var byValueFactory = new HashMap<String, PythonRepresentations>();
+        defaults.forEach((valueFactory, defaultRepresentation) -> byValueFactory.put(valueFactory,
+            new PythonRepresentations(defaultRepresentation, proxies.getOrDefault(valueFactory, List.of()))));
+        m_byValueFactory = Map.copyOf(byValueFactory);
+        m_byValueTypeName = Map.copyOf(byValueTypeName);
+    }
+
+    /**
+     * @param valueFactoryClassName the class name of a Java ValueFactory
+     * @return the default and proxy representations of the ValueFactory or empty if none are registered
+     */
+    public Optional<PythonRepresentations> getRepresentations(final String valueFactoryClassName) {
+        return Optional.ofNullable(m_byValueFactory.get(valueFactoryClassName));
+    }
+
+    /**
+     * @param valueFactoryClassName the class name of a Java ValueFactory
+     * @return the default representation of the ValueFactory or empty if none is registered
+     */
+    public Optional<PythonValueFactory> getDefaultRepresentation(final String valueFactoryClassName) {
+        return getRepresentations(valueFactoryClassName).map(PythonRepresentations::defaultRepresentation);
+    }
+
+    /**
+     * @param valueTypeName the name of a value type as declared in the extension point (module_name.type_name)
+     * @return the Python representation for the value type or empty if there is none
+     */
+    public Optional<PythonValueFactory> getRepresentationForValueType(final String valueTypeName) {
+        return Optional.ofNullable(m_byValueTypeName.get(valueTypeName));
+    }
+}
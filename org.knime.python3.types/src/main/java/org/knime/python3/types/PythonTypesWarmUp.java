@@ -0,0 +1,235 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.python3.types.port.PortObjectConverterExtensionPoint;
+import org.knime.python3.types.port.PythonPortObjectConverterExtension;
+import org.knime.python3.types.port.converter.PortObjectConversionContext;
+import org.knime.python3.types.port.converter.UntypedDelegatingPortObjectDecoder;
+import org.knime.python3.types.port.converter.UntypedDelegatingPortObjectEncoder;
+import org.knime.python3.types.port.converter.UntypedPortObjectConverter;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+import org.knime.python3.types.port.transport.RingBufferTransport;
+
+/**
+ * Initializes the {@link PythonValueFactoryRegistry} and the {@link PortObjectConverterExtensionPoint} on a background
+ * thread so that their cost is not paid by the first Python node that is executed. Converters that provide a
+ * {@link org.knime.python3.types.port.converter.PortObjectEncoder#createWarmUpPortObject() warm-up port object} are
+ * also run once, i.e. the port object and its spec are encoded and the results are decoded by the decoders of the same
+ * port object class. The warm-up is opt-in via the system property {@value #WARM_UP_PROPERTY} and is started by
+ * {@link PythonTypesEarlyStartup} during the startup of KNIME.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class PythonTypesWarmUp {
+
+    /**
+     * The system property that enables the warm-up at startup.
+     */
+    public static final String WARM_UP_PROPERTY = "knime.python.types.warmUp";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PythonTypesWarmUp.class);
+
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    private static final CompletableFuture<Void> WARM_UP = new CompletableFuture<>();
+
+    /** The context of the warm-up conversions, it only provides the defaults. */
+    private static final PortObjectConversionContext CONTEXT = new PortObjectConversionContext() {
+    };
+
+    private PythonTypesWarmUp() {
+    }
+
+    /**
+     * Starts the warm-up if it is enabled via {@value #WARM_UP_PROPERTY}.
+     */
+    static void startIfEnabled() {
+        if (Boolean.getBoolean(WARM_UP_PROPERTY)) {
+            start();
+        }
+    }
+
+    /**
+     * Starts the warm-up on a low-priority daemon thread unless it has already been started. Failures are logged and
+     * don't affect the later use of the registries.
+     *
+     * @return a future that completes once the warm-up is done
+     */
+    public static CompletableFuture<Void> start() {
+        if (STARTED.compareAndSet(false, true)) {
+            final var thread = new Thread(PythonTypesWarmUp::run, "KNIME-Python-Types-WarmUp");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.start();
+        }
+        return WARM_UP;
+    }
+
+    private static void run() {
+        final var start = System.nanoTime();
+        try {
+            warmUpValueFactories();
+            warmUpPortObjectConverters();
+            PythonImportResolver.getInstance();
+            LOGGER.debugWithFormat("Warmed up the Python type registries in %d ms.",
+                (System.nanoTime() - start) / 1_000_000);
+            WARM_UP.complete(null);
+        } catch (Throwable t) { // NOSONAR the warm-up must never fail the thread or the platform start
+            LOGGER.debug("The warm-up of the Python type registries failed.", t);
+            WARM_UP.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Initializes the registry, which serializes the specs and traits of all ValueFactories, and builds the fused
+     * column converters of all registered value types.
+     */
+    private static void warmUpValueFactories() {
+        for (var module : PythonValueFactoryRegistry.getModules()) {
+            for (var factory : module) {
+                PythonValueFactoryRegistry.getFusedColumnConverter(factory.getValueFactoryClassName(),
+                    factory.getValueTypeName());
+            }
+        }
+    }
+
+    /**
+     * Initializes the extension point, which instantiates all Java converters, and loads and initializes the port
+     * object classes they convert. Then runs the representation negotiation of each converter and converts the
+     * warm-up port objects the encoders provide.
+     */
+    private static void warmUpPortObjectConverters() {
+        final var samples = new ArrayList<Sample>();
+        for (var extension : PortObjectConverterExtensionPoint.getKnimeToPyConverters()) {
+            initialize(extension);
+            guarded(extension, () -> encode(extension, samples));
+        }
+        for (var extension : PortObjectConverterExtensionPoint.getPyToKnimeConverters()) {
+            initialize(extension);
+            guarded(extension, () -> decode(extension, samples));
+        }
+        for (var sample : samples) {
+            // frees pooled buffers and memory reservations of the representations, which are never sent
+            TransferAcknowledgements.discard(sample.representation());
+        }
+    }
+
+    /**
+     * A warm-up port object and the representations its encoder produced.
+     */
+    private record Sample(PortObject portObject, PortObjectSpecIntermediateRepresentation specRepresentation,
+        PortObjectIntermediateRepresentation representation) {
+    }
+
+    private static void encode(final PythonPortObjectConverterExtension<UntypedDelegatingPortObjectEncoder> extension,
+        final List<Sample> samples) {
+        final var encoder = extension.converter();
+        final var portObject = encoder.createWarmUpPortObject();
+        if (portObject.isEmpty()) {
+            return;
+        }
+        final var specRepresentation = encoder.encodePortObjectSpec(portObject.get().getSpec(), CONTEXT);
+        final var kind = extension.negotiateRepresentation(RingBufferTransport.SUPPORTED_REPRESENTATIONS);
+        final var representation = kind.isPresent() ? encoder.encodePortObject(portObject.get(), CONTEXT, kind.get())
+            : encoder.encodePortObject(portObject.get(), CONTEXT);
+        samples.add(new Sample(portObject.get(), specRepresentation, representation));
+    }
+
+    private static void decode(final PythonPortObjectConverterExtension<UntypedDelegatingPortObjectDecoder> extension,
+        final List<Sample> samples) {
+        final var decoder = extension.converter();
+        extension.negotiateRepresentation(RingBufferTransport.SUPPORTED_REPRESENTATIONS);
+        for (var sample : samples) {
+            if (decoder.getPortObjectClass().isInstance(sample.portObject())) {
+                final var spec = decoder.decodePortObjectSpec(sample.specRepresentation(), CONTEXT);
+                decoder.decodePortObject(sample.representation(), spec, CONTEXT);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Runs the warm-up of a single converter. A failure is logged and doesn't stop the warm-up of the others, e.g.
+     * because a decoder can't read what an encoder of the same port object class produces.
+     */
+    private static void guarded(final PythonPortObjectConverterExtension<?> extension, final Runnable warmUp) {
+        try {
+            warmUp.run();
+        } catch (RuntimeException | LinkageError ex) {
+            LOGGER.debug("The warm-up of the converter for " + extension.converter().getPortObjectClass().getName()
+                + " contributed by '" + extension.contributor() + "' failed.", ex);
+        }
+    }
+
+    private static void initialize(
+        final PythonPortObjectConverterExtension<? extends UntypedPortObjectConverter> extension) {
+        final var converter = extension.converter();
+        initialize(converter.getPortObjectClass());
+        initialize(converter.getPortObjectSpecClass());
+    }
+
+    private static void initialize(final Class<?> clazz) {
+        try {
+            Class.forName(clazz.getName(), true, clazz.getClassLoader());
+        } catch (ClassNotFoundException ex) { // NOSONAR can't happen, the class is already loaded
+            LOGGER.debug("Could not initialize " + clazz.getName() + ".", ex);
+        }
+    }
+}
@@ -69,6 +69,14 @@ public final class PythonValueFactory {
     private final String m_valueTypeName;
     private final String m_valueFactoryDataType;
 
+    private final ZeroCopyEligibility m_zeroCopyEligibility;
+
+    private final String m_zeroCopyEligibilityJson;
+
+    private final String m_dataSpecJson;
+
+    private final String m_dataTraitsJson;
+
     private boolean m_isDefaultPythonRepresentation;
 
     PythonValueFactory(final ValueFactory<?, ?> valueFactory, final String pythonClassName, final String ValueTypeName,
@@ -78,6 +86,12 @@ public final class PythonValueFactory {
         m_valueFactoryDataType = ValueFactoryUtils.getDataTypeForValueFactory(valueFactory).toString();
         m_valueTypeName = ValueTypeName;
         m_isDefaultPythonRepresentation = isDefaultPythonRepresentation;
+        m_zeroCopyEligibility =
+            ZeroCopyEligibility.analyze(valueFactory.getSpec(), ValueFactoryUtils.getTraits(valueFactory));
+        m_zeroCopyEligibilityJson = m_zeroCopyEligibility.toJson();
+        m_dataSpecJson = new DataSpecSerializer().save(valueFactory.getSpec(), JsonNodeFactory.instance).toString();
+        m_dataTraitsJson = new DataTraitsSerializer(JsonNodeFactory.instance)
+            .save(ValueFactoryUtils.getTraits(valueFactory)).toString();
         }
 
     /**
@@ -107,17 +121,28 @@ public final class PythonValueFactory {
      * @return JSON representation of the underlying DataSpec
      */
     public String getDataSpecRepresentation() {
-        var json = new DataSpecSerializer().save(m_valueFactory.getSpec(), JsonNodeFactory.instance);
-        return json.toString();
+        return m_dataSpecJson;
     }
 
     /**
      * @return JSON representation of the {@link DataTraits}
      */
     public String getDataTraitsJson() {
-        final var traits = ValueFactoryUtils.getTraits(m_valueFactory);
-        var json = new DataTraitsSerializer(JsonNodeFactory.instance).save(traits);
-        return json.toString();
+        return m_dataTraitsJson;
+    }
+
+    /**
+     * @return the layout of the data written by the ValueFactory, analyzed once when the factory is registered
+     */
+    public ZeroCopyEligibility getZeroCopyEligibility() {
+        return m_zeroCopyEligibility;
+    }
+
+    /**
+     * @return JSON representation of the {@link #getZeroCopyEligibility() zero-copy eligibility}
+     */
+    public String getZeroCopyEligibilityJson() {
+        return m_zeroCopyEligibilityJson;
     }
 
     /**
@@ -70,14 +70,17 @@ public final class PythonValueFactoryModule implements Iterable<PythonValueFacto
 
     private final List<ToPandasColumnConverter> m_toPandasColumnConverters;
 
+    private final String m_contributor;
+
     PythonValueFactoryModule(final Path modulePath, final String moduleName, final PythonValueFactory[] factories,
         final FromPandasColumnConverter[] fromPandasColumnConverters,
-        final ToPandasColumnConverter[] toPandasColumnConverters) {
+        final ToPandasColumnConverter[] toPandasColumnConverters, final String contributor) {
         m_modulePath = modulePath;
         m_moduleName = moduleName;
         m_factories = List.of(factories);
         m_fromPandasColumnConverters = List.of(fromPandasColumnConverters);
         m_toPandasColumnConverters = List.of(toPandasColumnConverters);
+        m_contributor = contributor;
     }
 
     @Override
@@ -109,4 +112,11 @@ public final class PythonValueFactoryModule implements Iterable<PythonValueFacto
     public List<ToPandasColumnConverter> getToPandasColumnConverters() {
         return m_toPandasColumnConverters;
     }
+
+    /**
+     * @return the symbolic name of the bundle that contributes this module
+     */
+    public String getContributor() {
+        return m_contributor;
+    }
 }
@@ -67,6 +67,10 @@ import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.v2.ValueFactory;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.util.FileUtil;
+import org.knime.python3.types.util.InitializationTimings;
+import org.knime.python3.types.util.InitializationTimings.Phase;
+import org.knime.python3.types.util.LruCache.CacheStatistics;
+import org.knime.python3.types.util.ModuleLocator;
 
 /**
  * Registry for the PythonValueFactory extension point. Only a single PythonValueFactory can be linked to any
@@ -81,7 +85,6 @@ public final class PythonValueFactoryRegistry {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(PythonValueFactoryRegistry.class);
 
-    private static final PythonValueFactoryRegistry INSTANCE = new PythonValueFactoryRegistry();
 
     private static final String EXT_POINT = "org.knime.python3.types.PythonValueFactory";
 
@@ -91,17 +94,67 @@ public final class PythonValueFactoryRegistry {
 
     private final List<PythonValueFactoryModule> m_modules = new ArrayList<>();
 
+    private final InitializationTimings m_timings = new InitializationTimings();
+
+    /** Locates the modules in the file system or null to locate them in the contributing bundles. */
+    private final ModuleLocator m_moduleLocator;
+
+    private final PythonRepresentationMap m_representations;
+
+    private final FusedColumnConverterIndex m_fusedConverters;
+
+    private final ConversionPlanner m_conversionPlanner;
+
+    private volatile List<ImportCost> m_importCosts = List.of();
+
+    /**
+     * Holds the instance for the platform's extensions, so that it is only created on first use and instances for other
+     * extension sets can be created without the OSGi framework.
+     */
+    private static final class InstanceHolder {
+        private static final PythonValueFactoryRegistry INSTANCE = new PythonValueFactoryRegistry();
+    }
+
     private PythonValueFactoryRegistry() {
-        IExtensionRegistry registry = Platform.getExtensionRegistry();
-        IExtensionPoint extPoint = registry.getExtensionPoint(EXT_POINT);
-        for (IExtension extension : extPoint.getExtensions()) {
+        this(getExtensions(), null);
+    }
+
+    /**
+     * Creates a registry from the given extensions instead of the ones found in the platform's extension registry.
+     * Allows to set up the registry with synthetic extension sets, e.g. for benchmarks.
+     *
+     * @param extensions contributing to the PythonValueFactory extension point
+     * @param moduleLocator locates the module paths of the extensions, null to locate them in the contributing
+     *            bundles, which requires the OSGi framework
+     */
+    PythonValueFactoryRegistry(final IExtension[] extensions, final ModuleLocator moduleLocator) {
+        m_moduleLocator = moduleLocator;
+        for (IExtension extension : extensions) {
             m_modules.addAll(extractModules(extension));
         }
 
+        final var verificationStart = System.nanoTime();
         verifyFactories(m_modules);
+        m_timings.add(InitializationTimings.ALL_CONTRIBUTORS, Phase.VERIFICATION,
+            System.nanoTime() - verificationStart);
+
+        final var indexStart = System.nanoTime();
+        m_representations = new PythonRepresentationMap(m_modules);
+        m_fusedConverters = new FusedColumnConverterIndex(m_modules);
+        m_conversionPlanner = new ConversionPlanner(m_representations, m_fusedConverters);
+        m_timings.add(InitializationTimings.ALL_CONTRIBUTORS, Phase.INDEX_BUILDING, System.nanoTime() - indexStart);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Initialization of the PythonValueFactory registry in ms:\n" + m_timings.getSummary());
+        }
     }
 
-    private static List<PythonValueFactoryModule> extractModules(final IExtension extension) {
+    private static IExtension[] getExtensions() {
+        IExtensionRegistry registry = Platform.getExtensionRegistry();
+        IExtensionPoint extPoint = registry.getExtensionPoint(EXT_POINT);
+        return extPoint.getExtensions();
+    }
+
+    private List<PythonValueFactoryModule> extractModules(final IExtension extension) {
         final List<PythonValueFactoryModule> modules = new ArrayList<>();
         for (IConfigurationElement module : extension.getConfigurationElements()) {
             var mod = extractModule(module);
@@ -112,7 +165,7 @@ public final class PythonValueFactoryRegistry {
         return modules;
     }
 
-    private static PythonValueFactoryModule extractModule(final IConfigurationElement module) {
+    private PythonValueFactoryModule extractModule(final IConfigurationElement module) {
         final var modulePath = extractModulePath(module);
         final var moduleName = extractModuleName(module);
         if (modulePath == null || moduleName == null) {
@@ -122,7 +175,7 @@ public final class PythonValueFactoryRegistry {
         final FromPandasColumnConverter[] fromPandasColumnConverters = extractFromPandasColumnConverters(module);
         final ToPandasColumnConverter[] toPandasColumnConverters = extractToPandasColumnConverters(module);
         return new PythonValueFactoryModule(modulePath, moduleName, factories, fromPandasColumnConverters,
-            toPandasColumnConverters);
+            toPandasColumnConverters, module.getContributor().getName());
     }
 
     private static FromPandasColumnConverter[] extractFromPandasColumnConverters(final IConfigurationElement module) {
@@ -130,7 +183,8 @@ public final class PythonValueFactoryRegistry {
         for (IConfigurationElement columnConverter : module.getChildren("FromPandasColumnConverter")) {
             final String pythonClassName = columnConverter.getAttribute("PythonClassName");
             final String valueTypeName = columnConverter.getAttribute("ValueTypeName");
-            columnConverters.add(new FromPandasColumnConverter(pythonClassName, valueTypeName));
+            columnConverters.add(new FromPandasColumnConverter(pythonClassName, valueTypeName,
+                isInPlace(columnConverter), isVectorized(columnConverter), extractCost(columnConverter)));
         }
 
         return columnConverters.toArray(FromPandasColumnConverter[]::new);
@@ -141,18 +195,49 @@ public final class PythonValueFactoryRegistry {
         for (IConfigurationElement columnConverter : module.getChildren("ToPandasColumnConverter")) {
             final String pythonClassName = columnConverter.getAttribute("PythonClassName");
             final String valueFactory = columnConverter.getAttribute("ValueFactory");
-            columnConverters.add(new ToPandasColumnConverter(pythonClassName, valueFactory));
+            columnConverters.add(new ToPandasColumnConverter(pythonClassName, valueFactory,
+                isInPlace(columnConverter), isVectorized(columnConverter), extractCost(columnConverter)));
         }
 
         return columnConverters.toArray(ToPandasColumnConverter[]::new);
     }
 
-    private static Path extractModulePath(final IConfigurationElement module) {
+    private static boolean isInPlace(final IConfigurationElement columnConverter) {
+        return Boolean.parseBoolean(columnConverter.getAttribute("inPlace"));
+    }
+
+    private static boolean isVectorized(final IConfigurationElement columnConverter) {
+        // converters that don't declare it are assumed to be vectorized
+        return !"false".equalsIgnoreCase(columnConverter.getAttribute("vectorized"));
+    }
+
+    private static ColumnConverterCost extractCost(final IConfigurationElement columnConverter) {
+        final var cost = columnConverter.getAttribute("cost");
+        try {
+            return ColumnConverterCost.parse(cost);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.coding("Unknown cost '" + cost + "' of column converter "
+                + columnConverter.getAttribute("PythonClassName") + ". Using " + ColumnConverterCost.MODERATE + ".",
+                ex);
+            return ColumnConverterCost.MODERATE;
+        }
+    }
+
+    private Path extractModulePath(final IConfigurationElement module) {
         final String modulePath = module.getAttribute(MODULE_PATH);
         final String contributor = module.getContributor().getName();
+        if (m_moduleLocator != null) {
+            final var located = m_timings.time(contributor, Phase.MODULE_PATH_RESOLUTION,
+                () -> m_moduleLocator.locate(contributor, modulePath));
+            if (located.isEmpty()) {
+                LOGGER.coding("Could not find module path '" + modulePath + "' of bundle '" + contributor + "'.");
+            }
+            return located.orElse(null);
+        }
         final var bundle = Platform.getBundle(contributor);
         try {
-            final URL moduleUrl = FileLocator.find(bundle, new org.eclipse.core.runtime.Path(modulePath), null);//NOSONAR
+            final URL moduleUrl = m_timings.time(contributor, Phase.MODULE_PATH_RESOLUTION,
+                () -> FileLocator.find(bundle, new org.eclipse.core.runtime.Path(modulePath), null));//NOSONAR
 
             if (moduleUrl == null) {
                 LOGGER.coding("Could not find module path '" + modulePath + "' in bundle '" + contributor + "'."
@@ -160,7 +245,8 @@ public final class PythonValueFactoryRegistry {
                     + "in your build.properties");
                 return null;
             }
-            final URL moduleFileUrl = FileLocator.toFileURL(moduleUrl);//NOSONAR
+            final URL moduleFileUrl =
+                m_timings.time(contributor, Phase.JAR_EXTRACTION, () -> FileLocator.toFileURL(moduleUrl));//NOSONAR
             return FileUtil.resolveToPath(moduleFileUrl);
         } catch (IOException | URISyntaxException ex) {
             LOGGER.error(String.format("Can't resolve KnimeArrowExtensionType provided by %s.", contributor), ex);
@@ -172,7 +258,7 @@ public final class PythonValueFactoryRegistry {
         return module.getAttribute(MODULE_NAME);
     }
 
-    private static PythonValueFactory[] extractFactories(final IConfigurationElement module) {
+    private PythonValueFactory[] extractFactories(final IConfigurationElement module) {
         final List<PythonValueFactory> factories = new ArrayList<>();
         for (IConfigurationElement factory : module.getChildren("PythonValueFactory")) {
             try {
@@ -235,20 +321,101 @@ public final class PythonValueFactoryRegistry {
         return javaValueFactoriesWithDefault;
     }
 
-    private static PythonValueFactory extractFactory(final IConfigurationElement factory) throws CoreException {
-        final ValueFactory<?, ?> valueFactory = (ValueFactory<?, ?>)factory.createExecutableExtension("ValueFactory");
+    private PythonValueFactory extractFactory(final IConfigurationElement factory) throws CoreException {
+        final String contributor = factory.getContributor().getName();
+        final ValueFactory<?, ?> valueFactory = m_timings.time(contributor, Phase.EXECUTABLE_EXTENSION,
+            () -> (ValueFactory<?, ?>)factory.createExecutableExtension("ValueFactory"));
         final String pythonValueFactoryName = factory.getAttribute("PythonClassName");
         final boolean isDefault = factory.getAttribute(IS_DEFAULT_PYTHON_REPRESENTATION) == null
             || factory.getAttribute(IS_DEFAULT_PYTHON_REPRESENTATION).equalsIgnoreCase("true");
         final String valueTypeName = factory.getAttribute("ValueTypeName");
-        return new PythonValueFactory(valueFactory, pythonValueFactoryName, valueTypeName, isDefault);
+        // the PythonValueFactory serializes the spec and traits of the ValueFactory upfront
+        return m_timings.time(contributor, Phase.SPEC_SERIALIZATION,
+            () -> new PythonValueFactory(valueFactory, pythonValueFactoryName, valueTypeName, isDefault));
     }
 
     /**
      * @return the list of registered {@link PythonValueFactoryModule PythonValueFactoryModules}
      */
     public static List<PythonValueFactoryModule> getModules() {
-        return new ArrayList<>(INSTANCE.m_modules);
+        return InstanceHolder.INSTANCE.getModuleList();
+    }
+
+    List<PythonValueFactoryModule> getModuleList() {
+        return new ArrayList<>(m_modules);
+    }
+
+    /**
+     * @return the immutable map of the Python representations of all registered ValueFactories
+     */
+    public static PythonRepresentationMap getRepresentationMap() {
+        return InstanceHolder.INSTANCE.m_representations;
+    }
+
+    /**
+     * Provides all pandas column converters that apply to a value type so that they can be applied in a single pass.
+     * The result is cached per type signature.
+     *
+     * @param valueFactoryClassName the class name of the Java ValueFactory
+     * @param valueTypeName the name of the value type in Python or null if the ValueFactory has no PythonValueFactory
+     * @return the fused converter, which is empty if no converters apply
+     */
+    public static FusedColumnConverter getFusedColumnConverter(final String valueFactoryClassName,
+        final String valueTypeName) {
+        return InstanceHolder.INSTANCE.m_fusedConverters.get(valueFactoryClassName, valueTypeName);
+    }
+
+    /**
+     * Measures the cost of importing each registered module with the given profiler. The results replace those of
+     * previous runs and can be retrieved via {@link #getModuleImportCosts()}.
+     *
+     * @param profiler the profiler to measure with
+     * @return the import cost of each module in registration order
+     */
+    public static List<ImportCost> profileModuleImports(final PythonImportProfiler profiler) {
+        final var costs = InstanceHolder.INSTANCE.m_modules.stream() //
+            .map(m -> profiler.profile(m, m.getContributor())) //
+            .toList();
+        InstanceHolder.INSTANCE.m_importCosts = costs;
+        return costs;
+    }
+
+    /**
+     * @return the import costs measured by the last call of {@link #profileModuleImports(PythonImportProfiler)}, empty
+     *         if the imports have not been profiled yet
+     */
+    public static List<ImportCost> getModuleImportCosts() {
+        return InstanceHolder.INSTANCE.m_importCosts;
+    }
+
+    /**
+     * @return the time spent in the phases of the initialization of the registry per contributing bundle
+     */
+    public static InitializationTimings getInitializationTimings() {
+        return InstanceHolder.INSTANCE.m_timings;
+    }
+
+    static FusedColumnConverterIndex getFusedColumnConverterIndex() {
+        return InstanceHolder.INSTANCE.m_fusedConverters;
+    }
+
+    /**
+     * Provides the conversion plan for a table schema. Plans are cached by schema, so repeated requests for the same
+     * schema are cheap.
+     *
+     * @param valueFactories the ValueFactories of the table's columns in column order, e.g. those of its
+     *            ColumnarValueSchema
+     * @return the plan describing how each column is converted when the table is sent to Python
+     */
+    public static ConversionPlan getConversionPlan(final List<? extends ValueFactory<?, ?>> valueFactories) {
+        return InstanceHolder.INSTANCE.m_conversionPlanner.getPlan(valueFactories);
+    }
+
+    /**
+     * @return the statistics of the conversion plan cache
+     */
+    public static CacheStatistics getConversionPlanCacheStatistics() {
+        return InstanceHolder.INSTANCE.m_conversionPlanner.getCacheStatistics();
     }
 
 }
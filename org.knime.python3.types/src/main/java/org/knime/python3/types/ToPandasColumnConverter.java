@@ -62,6 +62,12 @@ public class ToPandasColumnConverter {
 
     private final String m_valueFactory;
 
+    private final boolean m_inPlace;
+
+    private final boolean m_vectorized;
+
+    private final ColumnConverterCost m_cost;
+
     /**
      * Create a {@link ToPandasColumnConverter}
      *
@@ -69,8 +75,25 @@ public class ToPandasColumnConverter {
      * @param valueFactory
      */
     public ToPandasColumnConverter(final String pythonClassName, final String valueFactory) {
+        this(pythonClassName, valueFactory, false, true, ColumnConverterCost.MODERATE);
+    }
+
+    /**
+     * Create a {@link ToPandasColumnConverter}
+     *
+     * @param pythonClassName
+     * @param valueFactory
+     * @param inPlace whether the converter modifies the column in place instead of creating a new one
+     * @param vectorized whether the converter operates on the whole column instead of row by row
+     * @param cost the rough cost of the converter
+     */
+    public ToPandasColumnConverter(final String pythonClassName, final String valueFactory, final boolean inPlace,
+        final boolean vectorized, final ColumnConverterCost cost) {
         m_pythonClassName = pythonClassName;
         m_valueFactory = valueFactory;
+        m_inPlace = inPlace;
+        m_vectorized = vectorized;
+        m_cost = cost;
     }
 
     /**
@@ -86,4 +109,25 @@ public class ToPandasColumnConverter {
     public String getValueFactory() {
         return m_valueFactory;
     }
+
+    /**
+     * @return true if the converter modifies the column in place, so no defensive copy of the column is needed
+     */
+    public boolean isInPlace() {
+        return m_inPlace;
+    }
+
+    /**
+     * @return true if the converter operates on the whole column, false if it converts row by row
+     */
+    public boolean isVectorized() {
+        return m_vectorized;
+    }
+
+    /**
+     * @return the rough cost of the converter
+     */
+    public ColumnConverterCost getCost() {
+        return m_cost;
+    }
 }
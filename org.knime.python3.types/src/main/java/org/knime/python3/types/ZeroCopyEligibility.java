@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types;
+
+import org.knime.core.table.schema.BooleanDataSpec;
+import org.knime.core.table.schema.ByteDataSpec;
+import org.knime.core.table.schema.DataSpec;
+import org.knime.core.table.schema.DoubleDataSpec;
+import org.knime.core.table.schema.FloatDataSpec;
+import org.knime.core.table.schema.IntDataSpec;
+import org.knime.core.table.schema.ListDataSpec;
+import org.knime.core.table.schema.LongDataSpec;
+import org.knime.core.table.schema.StringDataSpec;
+import org.knime.core.table.schema.StructDataSpec;
+import org.knime.core.table.schema.VarBinaryDataSpec;
+import org.knime.core.table.schema.VoidDataSpec;
+import org.knime.core.table.schema.traits.DataTraitUtils;
+import org.knime.core.table.schema.traits.DataTraits;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * Describes the physical layout of the data written by a ValueFactory, so that the Python side can decide whether a
+ * column can be exposed as numpy view without copying it, without inspecting the DataSpec of every table.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @param layout the physical layout of the data
+ * @param bitWidth the number of bits per value for {@link PhysicalLayout#FIXED_WIDTH_PRIMITIVE} data, 0 otherwise
+ * @param nullHandling how missing values are represented
+ * @param dictionaryEncoded whether the data is dictionary encoded
+ */
+public record ZeroCopyEligibility(PhysicalLayout layout, int bitWidth, NullHandling nullHandling,
+    boolean dictionaryEncoded) {
+
+    /**
+     * The physical layout of the data.
+     */
+    public enum PhysicalLayout {
+            /** A single buffer of values with the same width, e.g. int or double. */
+            FIXED_WIDTH_PRIMITIVE,
+            /** Values of different length stored in a data buffer plus an offset buffer, e.g. string or binary. */
+            VARIABLE_WIDTH,
+            /** Struct or list data consisting of child data. */
+            NESTED,
+            /** No buffers at all, e.g. void data whose values are all missing. */
+            NONE;
+    }
+
+    /**
+     * How missing values are represented.
+     */
+    public enum NullHandling {
+            /** Missing values are marked in a validity bitmap, their slots in the value buffer are undefined. */
+            VALIDITY_BITMAP,
+            /** There is no value buffer, all values are missing. */
+            ALWAYS_NULL;
+    }
+
+    /**
+     * Analyzes the spec of a ValueFactory.
+     *
+     * @param spec the DataSpec of the ValueFactory
+     * @param traits the DataTraits of the ValueFactory (may be null)
+     * @return the eligibility of the data for zero-copy access
+     */
+    static ZeroCopyEligibility analyze(final DataSpec spec, final DataTraits traits) {
+        var dictEncoded = traits != null && DataTraitUtils.isDictEncoded(traits);
+        return spec.accept(new LayoutMapper(dictEncoded));
+    }
+
+    /**
+     * @return true if the values can be viewed as numpy array without copying, i.e. they are byte-aligned fixed width
+     *         primitives with a value buffer that are not dictionary encoded. Missing values still need to be masked
+     *         with the validity bitmap.
+     */
+    public boolean isZeroCopyEligible() {
+        return layout == PhysicalLayout.FIXED_WIDTH_PRIMITIVE && bitWidth > 0 && bitWidth % Byte.SIZE == 0
+            && nullHandling != NullHandling.ALWAYS_NULL && !dictionaryEncoded;
+    }
+
+    /**
+     * @return JSON representation for the Python side
+     */
+    public String toJson() {
+        return JsonNodeFactory.instance.objectNode() //
+            .put("layout", layout.name()) //
+            .put("bit_width", bitWidth) //
+            .put("null_handling", nullHandling.name()) //
+            .put("dictionary_encoded", dictionaryEncoded) //
+            .put("zero_copy", isZeroCopyEligible()) //
+            .toString();
+    }
+
+    private static final class LayoutMapper implements DataSpec.Mapper<ZeroCopyEligibility> {
+
+        private final boolean m_dictEncoded;
+
+        LayoutMapper(final boolean dictEncoded) {
+            m_dictEncoded = dictEncoded;
+        }
+
+        private ZeroCopyEligibility fixedWidth(final int bitWidth) {
+            return new ZeroCopyEligibility(PhysicalLayout.FIXED_WIDTH_PRIMITIVE, bitWidth,
+                NullHandling.VALIDITY_BITMAP, m_dictEncoded);
+        }
+
+        private ZeroCopyEligibility variableWidth() {
+            return new ZeroCopyEligibility(PhysicalLayout.VARIABLE_WIDTH, 0, NullHandling.VALIDITY_BITMAP,
+                m_dictEncoded);
+        }
+
+        private ZeroCopyEligibility nested() {
+            return new ZeroCopyEligibility(PhysicalLayout.NESTED, 0, NullHandling.VALIDITY_BITMAP, m_dictEncoded);
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final StructDataSpec spec) {
+            return nested();
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final ListDataSpec listDataSpec) {
+            return nested();
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final BooleanDataSpec spec) {
+            // booleans are bit-packed and therefore not byte-aligned
+            return fixedWidth(1);
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final ByteDataSpec spec) {
+            return fixedWidth(Byte.SIZE);
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final DoubleDataSpec spec) {
+            return fixedWidth(Double.SIZE);
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final FloatDataSpec spec) {
+            return fixedWidth(Float.SIZE);
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final IntDataSpec spec) {
+            return fixedWidth(Integer.SIZE);
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final LongDataSpec spec) {
+            return fixedWidth(Long.SIZE);
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final VarBinaryDataSpec spec) {
+            return variableWidth();
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final VoidDataSpec spec) {
+            return new ZeroCopyEligibility(PhysicalLayout.NONE, 0, NullHandling.ALWAYS_NULL, false);
+        }
+
+        @Override
+        public ZeroCopyEligibility visit(final StringDataSpec spec) {
+            return variableWidth();
+        }
+    }
+}
@@ -55,18 +55,28 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.Platform;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.util.FileUtil;
+import org.knime.python3.types.ImportCost;
+import org.knime.python3.types.PythonImportProfiler;
 import org.knime.python3.types.port.converter.PortObjectDecoder;
 import org.knime.python3.types.port.converter.PortObjectEncoder;
 import org.knime.python3.types.port.converter.UntypedDelegatingPortObjectDecoder;
 import org.knime.python3.types.port.converter.UntypedDelegatingPortObjectEncoder;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.util.InitializationTimings;
+import org.knime.python3.types.util.InitializationTimings.Phase;
+import org.knime.python3.types.util.ModuleLocator;
 
 /**
  * Parses the {@code org.knime.python3.types.PythonPortObjectConverter} extension point.
@@ -85,21 +95,48 @@ public final class PortObjectConverterExtensionPoint {
 
     private static final String EXTENSION_POINT = "org.knime.python3.types.PythonPortObjectConverter";
 
-    private static final PortObjectConverterExtensionPoint INSTANCE = new PortObjectConverterExtensionPoint();
 
-    private List<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectEncoder>> m_knimeToPyPortConverters;
+    private final List<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectEncoder>>
+        m_knimeToPyPortConverters;
 
-    private List<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectDecoder>> m_pyToKnimePortConverters;
+    private final List<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectDecoder>>
+        m_pyToKnimePortConverters;
+
+    private volatile List<ImportCost> m_importCosts = List.of();
+
+    private final InitializationTimings m_timings = new InitializationTimings();
+
+    /** Locates the modules in the file system or null to locate them in the contributing bundles. */
+    private final ModuleLocator m_moduleLocator;
+
+    /**
+     * Holds the instance for the platform's extensions, so that it is only created on first use and instances for other
+     * extension sets can be created without the OSGi framework.
+     */
+    private static final class InstanceHolder {
+        private static final PortObjectConverterExtensionPoint INSTANCE = new PortObjectConverterExtensionPoint();
+    }
 
     private PortObjectConverterExtensionPoint() {
+        this(Platform.getExtensionRegistry().getExtensionPoint(EXTENSION_POINT).getExtensions(), null);
+    }
+
+    /**
+     * Parses the given extensions instead of the ones found in the platform's extension registry. Allows to set up the
+     * extension point with synthetic extension sets, e.g. for benchmarks.
+     *
+     * @param extensions contributing to the PythonPortObjectConverter extension point
+     * @param moduleLocator locates the module paths of the extensions, null to locate them in the contributing
+     *            bundles, which requires the OSGi framework
+     */
+    PortObjectConverterExtensionPoint(final IExtension[] extensions, final ModuleLocator moduleLocator) {
+        m_moduleLocator = moduleLocator;
         var knimeToPyPortConverters =
             new ArrayList<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectEncoder>>();
         var pyToKnimePortConverters =
             new ArrayList<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectDecoder>>();
 
-        var registry = Platform.getExtensionRegistry();
-        var extPoint = registry.getExtensionPoint(EXTENSION_POINT);
-        var moduleConfigElements = Arrays.stream(extPoint.getExtensions()) //
+        var moduleConfigElements = Arrays.stream(extensions) //
             .flatMap(e -> Arrays.stream(e.getConfigurationElements())) //
             .toArray(IConfigurationElement[]::new);
 
@@ -124,7 +161,8 @@ public final class PortObjectConverterExtensionPoint {
             // Loop over converters
             for (var converterConfigElement : moduleConfigElement.getChildren()) {
                 var pythonConverterClass = converterConfigElement.getAttribute("PythonConverterClass");
-                var pythonImplementation = new PythonImplementation(modulePath.get(), moduleName, pythonConverterClass);
+                var pythonImplementation = new PythonImplementation(modulePath.get(), moduleName, pythonConverterClass,
+                    extractSupportedRepresentations(converterConfigElement));
 
                 if (KNIME_TO_PY_CONVERTER_KEY.equals(converterConfigElement.getName())) {
                     instantiateJavaConverter(converterConfigElement, PortObjectEncoder.class) // get the java converter
@@ -145,8 +183,20 @@ public final class PortObjectConverterExtensionPoint {
             }
         }
 
+        final var verificationStart = System.nanoTime();
+        verifyConverters(knimeToPyPortConverters, KNIME_TO_PY_CONVERTER_KEY);
+        verifyConverters(pyToKnimePortConverters, PY_TO_KNIME_CONVERTER_KEY);
+        m_timings.add(InitializationTimings.ALL_CONTRIBUTORS, Phase.VERIFICATION,
+            System.nanoTime() - verificationStart);
+
+        final var indexStart = System.nanoTime();
         m_knimeToPyPortConverters = Collections.unmodifiableList(knimeToPyPortConverters);
         m_pyToKnimePortConverters = Collections.unmodifiableList(pyToKnimePortConverters);
+        m_timings.add(InitializationTimings.ALL_CONTRIBUTORS, Phase.INDEX_BUILDING, System.nanoTime() - indexStart);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Initialization of the PythonPortObjectConverter extension point in ms:\n"
+                + m_timings.getSummary());
+        }
     }
 
     /**
@@ -154,7 +204,11 @@ public final class PortObjectConverterExtensionPoint {
      */
     public static List<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectEncoder>>
         getKnimeToPyConverters() {
-        return INSTANCE.m_knimeToPyPortConverters;
+        return InstanceHolder.INSTANCE.getKnimeToPyConverterList();
+    }
+
+    List<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectEncoder>> getKnimeToPyConverterList() {
+        return m_knimeToPyPortConverters;
     }
 
     /**
@@ -162,13 +216,82 @@ public final class PortObjectConverterExtensionPoint {
      */
     public static synchronized List<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectDecoder>>
         getPyToKnimeConverters() {
-        return INSTANCE.m_pyToKnimePortConverters;
+        return InstanceHolder.INSTANCE.getPyToKnimeConverterList();
+    }
+
+    List<PythonPortObjectConverterExtension<UntypedDelegatingPortObjectDecoder>> getPyToKnimeConverterList() {
+        return m_pyToKnimePortConverters;
+    }
+
+    /**
+     * Measures the cost of importing the Python module of each registered converter with the given profiler. Modules
+     * that are shared by several converters are only profiled once. The results replace those of previous runs and can
+     * be retrieved via {@link #getModuleImportCosts()}.
+     *
+     * @param profiler the profiler to measure with
+     * @return the import cost of each module
+     */
+    public static List<ImportCost> profileModuleImports(final PythonImportProfiler profiler) {
+        final var modules = new LinkedHashMap<List<Object>, PythonPortObjectConverterExtension<?>>();
+        for (var extension : InstanceHolder.INSTANCE.m_knimeToPyPortConverters) {
+            modules.putIfAbsent(moduleKey(extension.pythonImplementation()), extension);
+        }
+        for (var extension : InstanceHolder.INSTANCE.m_pyToKnimePortConverters) {
+            modules.putIfAbsent(moduleKey(extension.pythonImplementation()), extension);
+        }
+        final var costs = modules.values().stream() //
+            .map(e -> profiler.profile(e.pythonImplementation(), e.contributor())) //
+            .toList();
+        InstanceHolder.INSTANCE.m_importCosts = costs;
+        return costs;
     }
 
-    private static <T> Optional<T> instantiateJavaConverter(final IConfigurationElement configElement,
+    /**
+     * @return the time spent in the phases of the initialization of the extension point per contributing bundle
+     */
+    public static InitializationTimings getInitializationTimings() {
+        return InstanceHolder.INSTANCE.m_timings;
+    }
+
+    private static void verifyConverters(final List<? extends PythonPortObjectConverterExtension<?>> extensions,
+        final String direction) {
+        final var contributorsByPortObject = new HashMap<Class<?>, String>();
+        for (var extension : extensions) {
+            final var converter = extension.converter();
+            final var previous =
+                contributorsByPortObject.putIfAbsent(converter.getPortObjectClass(), extension.contributor());
+            if (previous != null) {
+                LOGGER.coding("Found multiple %s extensions for %s, contributed by '%s' and '%s'.".formatted(direction,
+                    converter.getPortObjectClass().getName(), previous, extension.contributor()));
+            }
+            if (!converter.getSupportedRepresentations().isEmpty() && IntermediateRepresentationKind
+                .negotiate(converter.getSupportedRepresentations(),
+                    extension.pythonImplementation().supportedRepresentations())
+                .isEmpty()) {
+                LOGGER.coding(("The %s for %s contributed by '%s' and its Python implementation have no intermediate "
+                    + "representation in common. Falling back to the representation used without negotiation.")
+                        .formatted(direction, converter.getPortObjectClass().getName(), extension.contributor()));
+            }
+        }
+    }
+
+    private static List<Object> moduleKey(final PythonImplementation implementation) {
+        return List.of(implementation.pythonModulePath(), implementation.pythonModuleName());
+    }
+
+    /**
+     * @return the import costs measured by the last call of {@link #profileModuleImports(PythonImportProfiler)}, empty
+     *         if the imports have not been profiled yet
+     */
+    public static List<ImportCost> getModuleImportCosts() {
+        return InstanceHolder.INSTANCE.m_importCosts;
+    }
+
+    private <T> Optional<T> instantiateJavaConverter(final IConfigurationElement configElement,
         final Class<T> clazz) {
         try {
-            return Optional.of(clazz.cast(configElement.createExecutableExtension("JavaConverterClass")));
+            return Optional.of(clazz.cast(m_timings.time(getContributor(configElement), Phase.EXECUTABLE_EXTENSION,
+                () -> configElement.createExecutableExtension("JavaConverterClass"))));
         } catch (Exception ex) { // NOSONAR: We catch everything because we do not want to fail initialization
             LOGGER.error("Failed to instantiate %s provided by %s.".formatted(clazz.getSimpleName(),
                 getContributor(configElement)), ex);
@@ -176,15 +299,39 @@ public final class PortObjectConverterExtensionPoint {
         }
     }
 
+    private static Set<IntermediateRepresentationKind>
+        extractSupportedRepresentations(final IConfigurationElement configElement) {
+        var supportedRepresentations = configElement.getAttribute("supportedRepresentations");
+        if (supportedRepresentations == null) {
+            return IntermediateRepresentationKind.LEGACY;
+        }
+        try {
+            return Set.copyOf(IntermediateRepresentationKind.parseList(supportedRepresentations));
+        } catch (IllegalArgumentException ex) {
+            LOGGER.coding("Invalid supportedRepresentations '%s' declared by %s. Falling back to %s.".formatted(
+                supportedRepresentations, getContributor(configElement), IntermediateRepresentationKind.LEGACY), ex);
+            return IntermediateRepresentationKind.LEGACY;
+        }
+    }
+
     private static String getContributor(final IConfigurationElement element) {
         return element.getContributor().getName();
     }
 
-    private static Optional<Path> extractModulePath(final IConfigurationElement element, final String resourcePath) {
+    private Optional<Path> extractModulePath(final IConfigurationElement element, final String resourcePath) {
         final String contributor = element.getContributor().getName();
+        if (m_moduleLocator != null) {
+            final var located = m_timings.time(contributor, Phase.MODULE_PATH_RESOLUTION,
+                () -> m_moduleLocator.locate(contributor, resourcePath));
+            if (located.isEmpty()) {
+                LOGGER.coding("Could not find module path '%s' of bundle '%s'.".formatted(resourcePath, contributor));
+            }
+            return located;
+        }
         final var bundle = Platform.getBundle(contributor);
         try {
-            final URL moduleUrl = FileLocator.find(bundle, new org.eclipse.core.runtime.Path(resourcePath), null);//NOSONAR
+            final URL moduleUrl = m_timings.time(contributor, Phase.MODULE_PATH_RESOLUTION,
+                () -> FileLocator.find(bundle, new org.eclipse.core.runtime.Path(resourcePath), null));//NOSONAR
 
             if (moduleUrl == null) {
                 LOGGER.coding("Could not find module path '%s' in bundle '%s'.".formatted(resourcePath, contributor)
@@ -192,7 +339,8 @@ public final class PortObjectConverterExtensionPoint {
                     + "in your build.properties");
                 return Optional.empty();
             }
-            final URL moduleFileUrl = FileLocator.toFileURL(moduleUrl);//NOSONAR
+            final URL moduleFileUrl =
+                m_timings.time(contributor, Phase.JAR_EXTRACTION, () -> FileLocator.toFileURL(moduleUrl));//NOSONAR
             return Optional.of(FileUtil.resolveToPath(moduleFileUrl));
         } catch (IOException | URISyntaxException ex) {
             LOGGER.error("Can't resolve module path of converter provided by %s.".formatted(contributor), ex);
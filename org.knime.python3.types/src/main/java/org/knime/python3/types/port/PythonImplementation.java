@@ -49,6 +49,10 @@
 package org.knime.python3.types.port;
 
 import java.nio.file.Path;
+import java.util.Set;
+
+import org.knime.python3.types.PythonModule;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
 
 /**
  * Represents the Python implementation of a converter.
@@ -57,8 +61,33 @@ import java.nio.file.Path;
  * @param pythonModulePath path to the Python code folder that will be added to the Python path
  * @param pythonModuleName the name of the Python module that needs to be imported
  * @param pythonClassName the implementing class in the Python module
+ * @param supportedRepresentations the kinds of intermediate representations the Python implementation can handle
  * @noreference this class is non-public API and only meant to be used by the Python node framework
  * @noinstantiate this class is non-public API and only meant to be used by the Python node framework
  */
-public record PythonImplementation(Path pythonModulePath, String pythonModuleName, String pythonClassName) {
+public record PythonImplementation(Path pythonModulePath, String pythonModuleName, String pythonClassName,
+    Set<IntermediateRepresentationKind> supportedRepresentations) implements PythonModule {
+
+    /**
+     * Creates a Python implementation that only supports the {@link IntermediateRepresentationKind#LEGACY legacy}
+     * intermediate representations.
+     *
+     * @param pythonModulePath path to the Python code folder that will be added to the Python path
+     * @param pythonModuleName the name of the Python module that needs to be imported
+     * @param pythonClassName the implementing class in the Python module
+     */
+    public PythonImplementation(final Path pythonModulePath, final String pythonModuleName,
+        final String pythonClassName) {
+        this(pythonModulePath, pythonModuleName, pythonClassName, IntermediateRepresentationKind.LEGACY);
+    }
+
+    @Override
+    public String getModuleName() {
+        return pythonModuleName;
+    }
+
+    @Override
+    public Path getParentDirectory() {
+        return pythonModulePath;
+    }
 }
@@ -48,7 +48,11 @@
  */
 package org.knime.python3.types.port;
 
+import java.util.Collection;
+import java.util.Optional;
+
 import org.knime.python3.types.port.converter.UntypedPortObjectConverter;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
 
 /**
  * Binds an {@link UntypedPortObjectConverter} to the Python module and extension that contributes it.
@@ -65,4 +69,49 @@ public final record PythonPortObjectConverterExtension<U extends UntypedPortObje
     U converter, //
     PythonImplementation pythonImplementation, //
     String contributor) {
+
+    /**
+     * Picks the kind of intermediate representation used for port objects. It is the first kind in the converter's
+     * {@link UntypedPortObjectConverter#getSupportedRepresentations() preferences} that both the transport and the
+     * Python implementation support.
+     *
+     * @param transportRepresentations the kinds of intermediate representations supported by the transport
+     * @return the negotiated kind or empty if the converter doesn't declare its supported kinds or if there is no kind
+     *         that all participants support. In both cases the converter falls back to the representation it produces
+     *         (or expects) without negotiation.
+     */
+    public Optional<IntermediateRepresentationKind>
+        negotiateRepresentation(final Collection<IntermediateRepresentationKind> transportRepresentations) {
+        return IntermediateRepresentationKind.negotiate(converter.getSupportedRepresentations(),
+            transportRepresentations, pythonImplementation.supportedRepresentations());
+    }
+
+    /**
+     * Checks whether the representations of the converter may be wrapped in a representation of the given
+     * {@link IntermediateRepresentationKind#isWrapper() wrapping} kind, e.g. in a
+     * {@link IntermediateRepresentationKind#DELTA delta}. Wrapping kinds are not declared by the Java converter, both
+     * the transport and the Python implementation have to support them.
+     *
+     * @param wrapper the wrapping kind
+     * @param transportRepresentations the kinds of intermediate representations supported by the transport
+     * @return true if both the transport and the Python implementation support the wrapping kind
+     */
+    public boolean supportsWrapper(final IntermediateRepresentationKind wrapper,
+        final Collection<IntermediateRepresentationKind> transportRepresentations) {
+        return wrapper.isWrapper() && IntermediateRepresentationKind.supports(wrapper, transportRepresentations,
+            pythonImplementation.supportedRepresentations());
+    }
+
+    /**
+     * Checks whether conversions may spill their payload to disk, i.e. whether the converter, the transport and the
+     * Python implementation all support {@link IntermediateRepresentationKind#FILE file} representations.
+     *
+     * @param transportRepresentations the kinds of intermediate representations supported by the transport
+     * @return true if a file representation can be used instead of the negotiated kind
+     */
+    public boolean supportsSpilling(final Collection<IntermediateRepresentationKind> transportRepresentations) {
+        return IntermediateRepresentationKind.supports(IntermediateRepresentationKind.FILE,
+            converter.getSupportedRepresentations(), transportRepresentations,
+            pythonImplementation.supportedRepresentations());
+    }
 }
@@ -0,0 +1,427 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Limits the memory that port object conversions of all nodes may use at the same time. Before a conversion runs, the
+ * estimated size of its payload is {@link #reserve(long, boolean) reserved}, and the reservation is released once the
+ * payload is no longer needed, e.g. once the representation of an encoded port object has been transferred. If a
+ * reservation would exceed the limit, the {@link Policy} decides whether the conversion waits, spills its payload to
+ * disk or fails.
+ *
+ * A thread that already holds a reservation never waits for another one, because its own reservations might only be
+ * released once it continues, e.g. if it encodes a composite port object or all inputs of a node before sending them.
+ * Such reservations are granted beyond the limit instead. Reservations also stop waiting and are granted beyond the
+ * limit after a maximal wait time, because releases may depend on other threads or on the garbage collector.
+ *
+ * The limit is configured as fraction of the maximal heap size via the system property
+ * {@value #MEMORY_FRACTION_PROPERTY} (default 0.5), the policy via {@value #POLICY_PROPERTY} (default
+ * {@link Policy#BLOCK}) and the maximal wait time in milliseconds via {@value #MAX_WAIT_PROPERTY} (default 30000).
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class ConversionMemoryGovernor {
+
+    /**
+     * The system property for the fraction of the maximal heap size that conversions may reserve.
+     */
+    public static final String MEMORY_FRACTION_PROPERTY = "knime.python.types.conversionMemoryFraction";
+
+    /**
+     * The system property for the {@link Policy} applied if a reservation exceeds the limit.
+     */
+    public static final String POLICY_PROPERTY = "knime.python.types.conversionMemoryPolicy";
+
+    /**
+     * The system property for the maximal time in milliseconds that a reservation waits for memory.
+     */
+    public static final String MAX_WAIT_PROPERTY = "knime.python.types.conversionMemoryMaxWait";
+
+    private static final double DEFAULT_MEMORY_FRACTION = 0.5;
+
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(30);
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ConversionMemoryGovernor.class);
+
+    /**
+     * What happens if a reservation would exceed the limit.
+     */
+    public enum Policy {
+            /**
+             * The reservation waits until enough memory has been released, at most for the maximal wait time and not
+             * at all if the thread already holds a reservation.
+             */
+            BLOCK,
+            /**
+             * The reservation is granted without counting against the limit, and the conversion is asked to write its
+             * payload to disk. Conversions that can't spill, e.g. because the receiving side can't read files, block
+             * instead.
+             */
+            SPILL,
+            /** The reservation fails with a {@link MemoryLimitExceededException}. */
+            FAIL_FAST;
+    }
+
+    /**
+     * Thrown by {@link ConversionMemoryGovernor#reserve(long, boolean)} if the {@link Policy#FAIL_FAST} policy
+     * rejects a reservation.
+     */
+    public static final class MemoryLimitExceededException extends IllegalStateException {
+
+        private static final long serialVersionUID = 1L;
+
+        MemoryLimitExceededException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Statistics of a {@link ConversionMemoryGovernor}.
+     *
+     * @param limit the maximal number of bytes that can be reserved at the same time
+     * @param policy the policy applied if a reservation exceeds the limit
+     * @param reservedBytes the number of bytes that are currently reserved
+     * @param activeReservations the number of reservations that have not been released yet
+     * @param maxReservedBytes the maximal number of bytes that were reserved at the same time
+     * @param blocked the number of reservations that had to wait
+     * @param spilled the number of reservations that asked their conversion to spill
+     * @param rejected the number of reservations that failed
+     * @param overcommitted the number of reservations that were granted beyond the limit because their thread already
+     *            held a reservation or they waited for the maximal wait time
+     */
+    public record MemoryStatistics(long limit, Policy policy, long reservedBytes, int activeReservations,
+        long maxReservedBytes, long blocked, long spilled, long rejected, long overcommitted) {
+    }
+
+    private static final class InstanceHolder {
+        private static final ConversionMemoryGovernor INSTANCE =
+            new ConversionMemoryGovernor((long)(Runtime.getRuntime().maxMemory() * readMemoryFraction()), readPolicy(),
+                readMaxWait());
+    }
+
+    private final long m_limit;
+
+    private final Policy m_policy;
+
+    private final Duration m_maxWait;
+
+    // the following fields are guarded by this
+
+    private long m_reservedBytes;
+
+    private int m_activeReservations;
+
+    private long m_maxReservedBytes;
+
+    private long m_blocked;
+
+    private long m_spilled;
+
+    private long m_rejected;
+
+    private long m_overcommitted;
+
+    /** The number of active reservations by the thread that made them. */
+    private final Map<Thread, Integer> m_reservationsByThread = new HashMap<>();
+
+    /**
+     * @param limit the maximal number of bytes that can be reserved at the same time
+     * @param policy applied if a reservation would exceed the limit
+     */
+    public ConversionMemoryGovernor(final long limit, final Policy policy) {
+        this(limit, policy, DEFAULT_MAX_WAIT);
+    }
+
+    /**
+     * @param limit the maximal number of bytes that can be reserved at the same time
+     * @param policy applied if a reservation would exceed the limit
+     * @param maxWait the maximal time a reservation waits for memory before it is granted beyond the limit
+     */
+    public ConversionMemoryGovernor(final long limit, final Policy policy, final Duration maxWait) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The memory limit must be positive: " + limit);
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("The maximal wait time must not be negative: " + maxWait);
+        }
+        m_limit = limit;
+        m_policy = policy;
+        m_maxWait = maxWait;
+    }
+
+    /**
+     * @return the governor shared by all conversions
+     */
+    public static ConversionMemoryGovernor getDefault() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private static double readMemoryFraction() {
+        final var value = System.getProperty(MEMORY_FRACTION_PROPERTY);
+        if (value != null) {
+            try {
+                final var fraction = Double.parseDouble(value);
+                if (fraction > 0 && fraction <= 1) {
+                    return fraction;
+                }
+            } catch (NumberFormatException ex) { // NOSONAR handled below
+            }
+            LOGGER.warnWithFormat("Invalid value '%s' for %s, it must be in (0, 1]. Using %s instead.", value,
+                MEMORY_FRACTION_PROPERTY, DEFAULT_MEMORY_FRACTION);
+        }
+        return DEFAULT_MEMORY_FRACTION;
+    }
+
+    private static Policy readPolicy() {
+        final var value = System.getProperty(POLICY_PROPERTY);
+        if (value != null) {
+            try {
+                return Policy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) { // NOSONAR handled below
+                LOGGER.warnWithFormat("Invalid value '%s' for %s. Using %s instead.", value, POLICY_PROPERTY,
+                    Policy.BLOCK);
+            }
+        }
+        return Policy.BLOCK;
+    }
+
+    private static Duration readMaxWait() {
+        final var value = System.getProperty(MAX_WAIT_PROPERTY);
+        if (value != null) {
+            try {
+                final var millis = Long.parseLong(value.trim());
+                if (millis >= 0) {
+                    return Duration.ofMillis(millis);
+                }
+            } catch (NumberFormatException ex) { // NOSONAR handled below
+            }
+            LOGGER.warnWithFormat("Invalid value '%s' for %s, it must be a non-negative number of milliseconds. "
+                + "Using %s instead.", value, MAX_WAIT_PROPERTY, DEFAULT_MAX_WAIT.toMillis());
+        }
+        return DEFAULT_MAX_WAIT;
+    }
+
+    /**
+     * Reserves memory for a conversion. A single reservation that is larger than the limit is granted once no other
+     * reservations are active, so that it runs alone instead of waiting forever. A reservation of a thread that
+     * already holds one is granted without waiting, and no reservation waits longer than the maximal wait time, see the
+     * {@link ConversionMemoryGovernor class description}.
+     *
+     * @param bytes the estimated size of the payload
+     * @param spillable whether the conversion can write its payload to disk if {@link Reservation#isSpillRequested()
+     *            requested}
+     * @return the reservation, which must be {@link Reservation#close() closed} once the conversion is done
+     * @throws InterruptedException if the thread is interrupted while waiting for memory
+     * @throws MemoryLimitExceededException if the policy is {@link Policy#FAIL_FAST} and the limit would be exceeded
+     */
+    public synchronized Reservation reserve(final long bytes, final boolean spillable) throws InterruptedException {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("The reserved size must not be negative: " + bytes);
+        }
+        if (!fits(bytes)) {
+            if (m_policy == Policy.FAIL_FAST) {
+                m_rejected++;
+                throw new MemoryLimitExceededException(
+                    "Reserving %d bytes for a conversion would exceed the limit of %d bytes (%d bytes are reserved)."
+                        .formatted(bytes, m_limit, m_reservedBytes));
+            }
+            if (m_policy == Policy.SPILL && spillable) {
+                m_spilled++;
+                return grant(0, true);
+            }
+            if (m_reservationsByThread.containsKey(Thread.currentThread())) {
+                // waiting could deadlock, the reservations of this thread may only be released once it continues
+                m_overcommitted++;
+            } else {
+                m_blocked++;
+                awaitFit(bytes);
+            }
+        }
+        m_reservedBytes += bytes;
+        m_maxReservedBytes = Math.max(m_maxReservedBytes, m_reservedBytes);
+        return grant(bytes, false);
+    }
+
+    /** Must be called while holding the lock. */
+    private void awaitFit(final long bytes) throws InterruptedException {
+        final var deadline = System.nanoTime() + m_maxWait.toNanos();
+        while (!fits(bytes)) {
+            final var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                m_overcommitted++;
+                LOGGER.debugWithFormat(
+                    "Granting %d bytes for a conversion beyond the limit of %d bytes after waiting for %d ms.", bytes,
+                    m_limit, m_maxWait.toMillis());
+                return;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+    }
+
+    private Reservation grant(final long bytes, final boolean spillRequested) {
+        final var owner = Thread.currentThread();
+        m_activeReservations++;
+        m_reservationsByThread.merge(owner, 1, Integer::sum);
+        return new Reservation(bytes, spillRequested, owner);
+    }
+
+    /**
+     * {@link #reserve(long, boolean) Reserves} memory for a conversion that can't declare the
+     * {@link InterruptedException}.
+     *
+     * @throws IllegalStateException if the thread is interrupted while waiting for memory, the interrupt flag is
+     *             restored
+     */
+    Reservation reserveForConversion(final long bytes, final boolean spillable) {
+        try {
+            return reserve(bytes, spillable);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for memory for a conversion.", ex);
+        }
+    }
+
+    private boolean fits(final long bytes) {
+        return m_reservedBytes + bytes <= m_limit || m_activeReservations == 0;
+    }
+
+    private synchronized void release(final long bytes, final Thread owner) {
+        m_reservedBytes -= bytes;
+        m_activeReservations--;
+        m_reservationsByThread.computeIfPresent(owner, (t, count) -> count == 1 ? null : (count - 1));
+        notifyAll();
+    }
+
+    /**
+     * @return the maximal number of bytes that can be reserved at the same time
+     */
+    public long getLimit() {
+        return m_limit;
+    }
+
+    /**
+     * @return the policy applied if a reservation would exceed the limit
+     */
+    public Policy getPolicy() {
+        return m_policy;
+    }
+
+    /**
+     * @return the maximal time a reservation waits for memory
+     */
+    public Duration getMaxWait() {
+        return m_maxWait;
+    }
+
+    /**
+     * @return the current statistics of the governor
+     */
+    public synchronized MemoryStatistics getStatistics() {
+        return new MemoryStatistics(m_limit, m_policy, m_reservedBytes, m_activeReservations, m_maxReservedBytes,
+            m_blocked, m_spilled, m_rejected, m_overcommitted);
+    }
+
+    /**
+     * Memory reserved for a conversion. It may be closed by another thread than the one that made it, e.g. by the
+     * transport once the payload has been transferred.
+     */
+    public final class Reservation implements AutoCloseable {
+
+        private final long m_bytes;
+
+        private final boolean m_spillRequested;
+
+        private final Thread m_owner;
+
+        private boolean m_released;
+
+        private Reservation(final long bytes, final boolean spillRequested, final Thread owner) {
+            m_bytes = bytes;
+            m_spillRequested = spillRequested;
+            m_owner = owner;
+        }
+
+        /**
+         * @return the number of bytes that count against the limit, 0 if the conversion was asked to spill
+         */
+        public long getBytes() {
+            return m_bytes;
+        }
+
+        /**
+         * @return true if the conversion should write its payload to disk instead of keeping it in memory
+         */
+        public boolean isSpillRequested() {
+            return m_spillRequested;
+        }
+
+        /**
+         * Releases the reserved memory. Subsequent calls have no effect.
+         */
+        @Override
+        public void close() {
+            synchronized (ConversionMemoryGovernor.this) {
+                if (m_released) {
+                    return;
+                }
+                m_released = true;
+            }
+            release(m_bytes, m_owner);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Runs port object conversions under a global concurrency limit so that many Python nodes that execute in parallel
+ * don't convert all of their ports at the same time. Conversions run on virtual threads if the JVM supports them
+ * (Java 21+), so that conversions that mostly wait for I/O, e.g. of file-backed representations, don't tie up platform
+ * threads. Otherwise they run on platform threads, of which there are never more than the limit.
+ *
+ * Conversions have a {@link Priority}. Waiting {@link Priority#INTERACTIVE interactive} conversions, i.e. spec
+ * conversions during configure, are always started before waiting {@link Priority#BULK bulk} conversions and some of
+ * the permits are reserved for them, so that the configure latency stays flat while large executions convert their
+ * port objects. Running conversions are not preempted, bulk work is only deferred.
+ *
+ * The limit is configured via the system property {@value #MAX_CONCURRENCY_PROPERTY} and defaults to the number of
+ * processors, the number of reserved permits via {@value #INTERACTIVE_RESERVE_PROPERTY} and defaults to 1. The
+ * {@link NodeContext} of the submitting thread is propagated to the conversion.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class ConversionScheduler implements AutoCloseable {
+
+    /**
+     * The system property for the maximal number of conversions that run at the same time.
+     */
+    public static final String MAX_CONCURRENCY_PROPERTY = "knime.python.types.conversionConcurrency";
+
+    /**
+     * The system property for the number of permits that can only be used by interactive conversions.
+     */
+    public static final String INTERACTIVE_RESERVE_PROPERTY = "knime.python.types.interactiveConversionReserve";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ConversionScheduler.class);
+
+    /**
+     * The priority of a conversion.
+     */
+    public enum Priority {
+            /** Conversions that a user waits for, e.g. of specs during configure. */
+            INTERACTIVE,
+            /** Throughput work, e.g. the conversion of port objects during execute. */
+            BULK;
+    }
+
+    private final ExecutorService m_executor;
+
+    private final boolean m_virtualThreads;
+
+    private final int m_maxConcurrency;
+
+    private final int m_maxBulkConcurrency;
+
+    private final Object m_lock = new Object();
+
+    // the following fields are guarded by m_lock
+
+    private final ArrayDeque<Task<?>> m_interactiveQueue = new ArrayDeque<>();
+
+    private final ArrayDeque<Task<?>> m_bulkQueue = new ArrayDeque<>();
+
+    private final PriorityStatistics.Builder m_interactiveStatistics = new PriorityStatistics.Builder();
+
+    private final PriorityStatistics.Builder m_bulkStatistics = new PriorityStatistics.Builder();
+
+    private boolean m_closed;
+
+    /**
+     * Statistics of a {@link ConversionScheduler}.
+     *
+     * @param maxConcurrency the maximal number of conversions that run at the same time
+     * @param maxBulkConcurrency the maximal number of bulk conversions that run at the same time
+     * @param virtualThreads whether the conversions run on virtual threads
+     * @param interactive the statistics of the interactive conversions
+     * @param bulk the statistics of the bulk conversions
+     */
+    public record SchedulerStatistics(int maxConcurrency, int maxBulkConcurrency, boolean virtualThreads,
+        PriorityStatistics interactive, PriorityStatistics bulk) {
+    }
+
+    /**
+     * Statistics of the conversions of one {@link Priority}.
+     *
+     * @param queued the number of conversions that currently wait to be run
+     * @param running the number of conversions that currently run
+     * @param maxQueued the maximal number of conversions that waited at the same time
+     * @param completed the number of conversions that completed successfully
+     * @param failed the number of conversions that failed
+     * @param totalQueueNanos the total time conversions spent waiting to be run
+     */
+    public record PriorityStatistics(int queued, int running, int maxQueued, long completed, long failed,
+        long totalQueueNanos) {
+
+        private static final class Builder {
+            private int m_running;
+
+            private int m_maxQueued;
+
+            private long m_completed;
+
+            private long m_failed;
+
+            private long m_totalQueueNanos;
+
+            PriorityStatistics build(final int queued) {
+                return new PriorityStatistics(queued, m_running, m_maxQueued, m_completed, m_failed,
+                    m_totalQueueNanos);
+            }
+        }
+    }
+
+    private static final class InstanceHolder {
+        private static final ConversionScheduler INSTANCE = new ConversionScheduler(
+            Math.max(1, Integer.getInteger(MAX_CONCURRENCY_PROPERTY, Runtime.getRuntime().availableProcessors())),
+            Math.max(0, Integer.getInteger(INTERACTIVE_RESERVE_PROPERTY, 1)));
+    }
+
+    /**
+     * @param maxConcurrency the maximal number of conversions that run at the same time
+     * @param interactiveReserve the number of permits that only interactive conversions can use, at least one permit
+     *            is always left for bulk conversions
+     */
+    public ConversionScheduler(final int maxConcurrency, final int interactiveReserve) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The concurrency limit must be positive: " + maxConcurrency);
+        }
+        m_maxConcurrency = maxConcurrency;
+        m_maxBulkConcurrency = Math.max(1, maxConcurrency - interactiveReserve);
+        var virtualExecutor = createVirtualThreadExecutor();
+        m_virtualThreads = virtualExecutor != null;
+        // the scheduler never starts more than maxConcurrency tasks, so the cached pool stays bounded
+        m_executor = m_virtualThreads ? virtualExecutor : Executors.newCachedThreadPool(daemonThreads());
+    }
+
+    /**
+     * @return the scheduler shared by all conversions
+     */
+    public static ConversionScheduler getDefault() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Looked up reflectively because this bundle is compiled against Java 17.
+     *
+     * @return an executor that starts a virtual thread per task or null if the JVM doesn't support virtual threads
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) { // NOSONAR the fallback is expected on Java 17
+            LOGGER.debug("Virtual threads are not available, conversions run on platform threads.");
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        final var counter = new AtomicInteger();
+        return r -> {
+            final var thread = new Thread(r, "KNIME-Python-Conversion-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Schedules a conversion.
+     *
+     * @param <T> the type of the result
+     * @param priority the priority of the conversion
+     * @param conversion the conversion to run
+     * @return a future that completes with the result of the conversion or exceptionally if it fails
+     */
+    public <T> CompletableFuture<T> submit(final Priority priority, final Callable<T> conversion) {
+        final var task = new Task<>(priority, conversion, NodeContext.getContext(), System.nanoTime());
+        synchronized (m_lock) {
+            if (m_closed) {
+                task.m_future.completeExceptionally(new RejectedExecutionException("The scheduler has been closed."));
+                return task.m_future;
+            }
+            final var queue = getQueue(priority);
+            queue.add(task);
+            final var statistics = getStatistics(priority);
+            statistics.m_maxQueued = Math.max(statistics.m_maxQueued, queue.size());
+        }
+        dispatch();
+        return task.m_future;
+    }
+
+    /**
+     * Schedules a {@link Priority#BULK bulk} conversion.
+     *
+     * @param <T> the type of the result
+     * @param conversion the conversion to run
+     * @return a future that completes with the result of the conversion or exceptionally if it fails
+     */
+    public <T> CompletableFuture<T> submit(final Callable<T> conversion) {
+        return submit(Priority.BULK, conversion);
+    }
+
+    /**
+     * Starts as many waiting conversions as the limits allow, interactive ones first. The executor is shut down once a
+     * closed scheduler has started all of its conversions.
+     */
+    private void dispatch() {
+        synchronized (m_lock) {
+            for (var task = nextTask(); task != null; task = nextTask()) {
+                try {
+                    // never blocks, the executors start a thread per task if necessary
+                    m_executor.execute(task::run);
+                } catch (RejectedExecutionException ex) {
+                    task.m_future.completeExceptionally(ex);
+                    final var statistics = getStatistics(task.m_priority);
+                    statistics.m_running--;
+                    statistics.m_failed++;
+                }
+            }
+            if (m_closed && m_interactiveQueue.isEmpty() && m_bulkQueue.isEmpty()) {
+                m_executor.shutdown();
+            }
+        }
+    }
+
+    private Task<?> nextTask() {
+        final var running = m_interactiveStatistics.m_running + m_bulkStatistics.m_running;
+        if (running >= m_maxConcurrency) {
+            return null;
+        }
+        if (!m_interactiveQueue.isEmpty()) {
+            return start(m_interactiveQueue.poll());
+        }
+        if (!m_bulkQueue.isEmpty() && m_bulkStatistics.m_running < m_maxBulkConcurrency) {
+            return start(m_bulkQueue.poll());
+        }
+        return null;
+    }
+
+    private Task<?> start(final Task<?> task) {
+        final var statistics = getStatistics(task.m_priority);
+        statistics.m_running++;
+        statistics.m_totalQueueNanos += System.nanoTime() - task.m_submitted;
+        return task;
+    }
+
+    private ArrayDeque<Task<?>> getQueue(final Priority priority) {
+        return priority == Priority.INTERACTIVE ? m_interactiveQueue : m_bulkQueue;
+    }
+
+    private PriorityStatistics.Builder getStatistics(final Priority priority) {
+        return priority == Priority.INTERACTIVE ? m_interactiveStatistics : m_bulkStatistics;
+    }
+
+    /**
+     * @return the current statistics of the scheduler
+     */
+    public SchedulerStatistics getStatistics() {
+        synchronized (m_lock) {
+            return new SchedulerStatistics(m_maxConcurrency, m_maxBulkConcurrency, m_virtualThreads,
+                m_interactiveStatistics.build(m_interactiveQueue.size()), m_bulkStatistics.build(m_bulkQueue.size()));
+        }
+    }
+
+    /**
+     * Stops accepting conversions. Conversions that have already been submitted still run.
+     */
+    @Override
+    public void close() {
+        synchronized (m_lock) {
+            m_closed = true;
+        }
+        dispatch();
+    }
+
+    private final class Task<T> {
+
+        private final Priority m_priority;
+
+        private final Callable<T> m_conversion;
+
+        private final NodeContext m_nodeContext;
+
+        private final long m_submitted;
+
+        private final CompletableFuture<T> m_future = new CompletableFuture<>();
+
+        Task(final Priority priority, final Callable<T> conversion, final NodeContext nodeContext,
+            final long submitted) {
+            m_priority = priority;
+            m_conversion = conversion;
+            m_nodeContext = nodeContext;
+            m_submitted = submitted;
+        }
+
+        void run() {
+            T result = null;
+            Throwable failure = null;
+            NodeContext.pushContext(m_nodeContext);
+            try {
+                result = m_conversion.call();
+            } catch (Throwable t) { // NOSONAR the failure is passed on to the caller
+                failure = t;
+            } finally {
+                NodeContext.removeLastContext();
+            }
+            finish(result, failure);
+        }
+
+        private void finish(final T result, final Throwable failure) {
+            synchronized (m_lock) {
+                final var statistics = getStatistics(m_priority);
+                statistics.m_running--;
+                if (failure == null) {
+                    statistics.m_completed++;
+                } else {
+                    statistics.m_failed++;
+                }
+            }
+            // the statistics are updated and the permit is passed on before the caller is notified
+            dispatch();
+            if (failure == null) {
+                m_future.complete(result);
+            } else {
+                m_future.completeExceptionally(failure);
+            }
+        }
+    }
+}
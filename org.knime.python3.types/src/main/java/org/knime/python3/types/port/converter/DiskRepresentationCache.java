@@ -0,0 +1,684 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.python3.types.port.ir.BinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.FileBackedBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.FileBackedPayload;
+import org.knime.python3.types.port.ir.FileBackedStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.FileIntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.port.ir.JavaFileIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PooledBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.StreamingStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.StringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+
+/**
+ * Caches the intermediate representations of encoded port objects on disk, so that port objects with the same content
+ * are not encoded again in later executions, e.g. after the workflow has been reloaded. Entries are keyed by the
+ * encoder, the version of the bundle that contributes it and the
+ * {@link PortObjectEncoder#getContentFingerprint(PortObject) content fingerprint} of the port object, so that entries
+ * written by another version of the encoder are not used after an update. Port objects without fingerprint are not
+ * cached.
+ *
+ * Each entry consists of a payload file, which contains nothing but the payload, and a metadata file with the kind,
+ * size and CRC32C checksum of the payload. The checksum is verified the first time an entry is used by this process,
+ * corrupt entries are deleted. If the total size of the payloads exceeds the limit, the least recently used entries
+ * are evicted. Cached string and binary representations are {@link FileBackedPayload file-backed}, so transports can
+ * stream them from disk.
+ *
+ * The representations that are handed out don't point to the payload file of the entry but to a hard link of it (or
+ * a copy if the file system doesn't support hard links) in a directory of the process, so that they stay readable if
+ * the entry is evicted, cleared or deleted as corrupt in the meantime, also by another process that uses the same
+ * directory. The links of string and binary representations are deleted once the representation has been
+ * {@link TransferAcknowledgements transferred}. Python reads the file of a file representation after its path has
+ * been transferred, so these links are kept until the process ends. The directories of processes that are no longer
+ * running are deleted when the cache is opened.
+ *
+ * The cache is disabled by default. It is enabled by setting the system property {@value #DIRECTORY_PROPERTY} to
+ * the cache directory, the limit is configured via {@value #MAX_SIZE_PROPERTY} (in bytes, default 1 GiB).
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class DiskRepresentationCache {
+
+    /**
+     * The system property for the directory of the default cache. The cache is disabled if it is not set.
+     */
+    public static final String DIRECTORY_PROPERTY = "knime.python.types.irCacheDirectory";
+
+    /**
+     * The system property for the maximal size of the payloads in the default cache in bytes.
+     */
+    public static final String MAX_SIZE_PROPERTY = "knime.python.types.irCacheSize";
+
+    private static final long DEFAULT_MAX_SIZE = 1L << 30;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DiskRepresentationCache.class);
+
+    private static final int META_MAGIC = 0x4B4E4943;
+
+    private static final int META_VERSION = 1;
+
+    /** The version of the keys and payloads, increment it to invalidate the entries written by earlier versions. */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String META_SUFFIX = ".meta";
+
+    private static final String PAYLOAD_SUFFIX = ".payload";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final String LINK_DIRECTORY_PREFIX = "links-";
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private static final long STALE_TEMP_FILE_AGE_MS = 24L * 60 * 60 * 1000;
+
+    private static final Set<IntermediateRepresentationKind> CACHED_KINDS = EnumSet.of(
+        IntermediateRepresentationKind.STRING, IntermediateRepresentationKind.BINARY,
+        IntermediateRepresentationKind.FILE);
+
+    private final Path m_directory;
+
+    private final long m_maxSize;
+
+    /** Holds the links to the payloads of the representations handed out by this process. */
+    private final Path m_linkDirectory;
+
+    private final AtomicLong m_nextLink = new AtomicLong();
+
+    // the following fields are guarded by this
+
+    /** In access order, i.e. the least recently used entry comes first. */
+    private final LinkedHashMap<String, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long m_size;
+
+    private long m_hits;
+
+    private long m_misses;
+
+    private long m_corruptEntries;
+
+    private long m_evictions;
+
+    /**
+     * Statistics of a {@link DiskRepresentationCache}.
+     *
+     * @param hits the number of encodings that were read from the cache
+     * @param misses the number of encodings of port objects with fingerprint that were not cached
+     * @param corruptEntries the number of entries that failed the checksum verification and were deleted
+     * @param evictions the number of entries evicted because the cache was full
+     * @param entries the number of entries in the cache
+     * @param size the total size of the cached payloads in bytes
+     * @param maxSize the maximal total size of the cached payloads in bytes
+     */
+    public record DiskCacheStatistics(long hits, long misses, long corruptEntries, long evictions, int entries,
+        long size, long maxSize) {
+    }
+
+    private static final class InstanceHolder {
+        private static final Optional<DiskRepresentationCache> INSTANCE = createDefault();
+
+        private static Optional<DiskRepresentationCache> createDefault() {
+            final var directory = System.getProperty(DIRECTORY_PROPERTY);
+            if (directory == null || directory.isBlank()) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new DiskRepresentationCache(Paths.get(directory),
+                    Long.getLong(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE)));
+            } catch (IOException | RuntimeException ex) { // NOSONAR the cache is optional
+                LOGGER.warn("The intermediate representation cache in '" + directory + "' can't be used.", ex);
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * @return the cache configured via {@value #DIRECTORY_PROPERTY} or empty if the cache is disabled
+     */
+    public static Optional<DiskRepresentationCache> getDefault() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Opens the cache in the given directory and picks up the entries written by previous processes.
+     *
+     * @param directory the directory of the cache, created if it doesn't exist
+     * @param maxSize the maximal total size of the cached payloads in bytes
+     * @throws IOException if the directory can't be created or read
+     */
+    public DiskRepresentationCache(final Path directory, final long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximal cache size must be positive: " + maxSize);
+        }
+        m_directory = Files.createDirectories(directory);
+        m_maxSize = maxSize;
+        m_linkDirectory = m_directory.resolve(LINK_DIRECTORY_PREFIX + ProcessHandle.current().pid());
+        deleteStaleLinks();
+        Files.createDirectories(m_linkDirectory);
+        loadEntries();
+    }
+
+    /**
+     * Deletes the link directories of processes that are no longer running, including one of a previous process with
+     * the same process id as this one.
+     */
+    private void deleteStaleLinks() throws IOException {
+        final List<Path> directories;
+        try (Stream<Path> list = Files.list(m_directory)) {
+            directories = list.filter(p -> p.getFileName().toString().startsWith(LINK_DIRECTORY_PREFIX)).toList();
+        }
+        for (var linkDirectory : directories) {
+            final var pid = parsePid(linkDirectory.getFileName().toString().substring(LINK_DIRECTORY_PREFIX.length()));
+            if (pid.isPresent() && (pid.get() == ProcessHandle.current().pid()
+                || ProcessHandle.of(pid.get()).filter(ProcessHandle::isAlive).isEmpty())) {
+                try (Stream<Path> links = Files.list(linkDirectory)) {
+                    for (var link : links.toList()) {
+                        Files.deleteIfExists(link);
+                    }
+                }
+                Files.deleteIfExists(linkDirectory);
+            }
+        }
+    }
+
+    private static Optional<Long> parsePid(final String pid) {
+        try {
+            return Optional.of(Long.parseLong(pid));
+        } catch (NumberFormatException ex) { // NOSONAR not a link directory
+            return Optional.empty();
+        }
+    }
+
+    private void loadEntries() throws IOException {
+        final List<Path> files;
+        try (Stream<Path> list = Files.list(m_directory)) {
+            files = list.toList();
+        }
+        final var staleBefore = FileTime.fromMillis(System.currentTimeMillis() - STALE_TEMP_FILE_AGE_MS);
+        for (var file : files) {
+            // left behind by processes that died while writing an entry
+            if (file.getFileName().toString().endsWith(TEMP_SUFFIX)
+                && Files.getLastModifiedTime(file).compareTo(staleBefore) < 0) {
+                Files.deleteIfExists(file);
+            }
+        }
+        final var metaFiles = files.stream().filter(p -> p.getFileName().toString().endsWith(META_SUFFIX)).toList();
+        final var loaded = new ArrayList<Map.Entry<FileTime, Entry>>();
+        for (var metaFile : metaFiles) {
+            final var name = metaFile.getFileName().toString();
+            final var key = name.substring(0, name.length() - META_SUFFIX.length());
+            try {
+                final var entry = readMeta(key);
+                loaded.add(Map.entry(Files.getLastModifiedTime(metaFile), entry));
+            } catch (IOException | RuntimeException ex) { // NOSONAR unreadable entries are dropped
+                LOGGER.debug("Dropping the unreadable cache entry " + key + ".", ex);
+                delete(key);
+            }
+        }
+        // the modification time of the metadata is the time of the last access
+        loaded.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+        synchronized (this) {
+            for (var entry : loaded) {
+                m_entries.put(entry.getValue().m_key, entry.getValue());
+                m_size += entry.getValue().m_size;
+            }
+            evict();
+        }
+    }
+
+    /**
+     * Encodes a port object or reads its encoding from the cache.
+     *
+     * @param encoder the encoder for the port object
+     * @param portObject to encode
+     * @param context in which the conversion happens
+     * @return the cached or newly encoded representation
+     */
+    public PortObjectIntermediateRepresentation encodePortObject(final UntypedDelegatingPortObjectEncoder encoder,
+        final PortObject portObject, final PortObjectConversionContext context) {
+        return encode(encoder, portObject, context, null);
+    }
+
+    /**
+     * Encodes a port object using the negotiated kind of intermediate representation or reads its encoding from the
+     * cache.
+     *
+     * @param encoder the encoder for the port object
+     * @param portObject to encode
+     * @param context in which the conversion happens
+     * @param representation the negotiated kind of intermediate representation
+     * @return the cached or newly encoded representation
+     * @see #encodePortObject(UntypedDelegatingPortObjectEncoder, PortObject, PortObjectConversionContext)
+     */
+    public PortObjectIntermediateRepresentation encodePortObject(final UntypedDelegatingPortObjectEncoder encoder,
+        final PortObject portObject, final PortObjectConversionContext context,
+        final IntermediateRepresentationKind representation) {
+        return encode(encoder, portObject, context, representation);
+    }
+
+    private PortObjectIntermediateRepresentation encode(final UntypedDelegatingPortObjectEncoder encoder,
+        final PortObject portObject, final PortObjectConversionContext context,
+        final IntermediateRepresentationKind representation) {
+        final var fingerprint = encoder.getContentFingerprint(portObject);
+        if (fingerprint.isEmpty()) {
+            return representation == null ? encoder.encodePortObject(portObject, context)
+                : encoder.encodePortObject(portObject, context, representation);
+        }
+        final var key = createKey(encoder, fingerprint.get(), representation);
+        final var cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final var encoded = representation == null ? encoder.encodePortObject(portObject, context)
+            : encoder.encodePortObject(portObject, context, representation);
+        try {
+            put(key, encoded);
+        } catch (IOException | UncheckedIOException ex) {
+            LOGGER.debug("Failed to cache the intermediate representation of " + portObject.getClass().getName() + ".",
+                ex);
+            delete(key);
+        }
+        return encoded;
+    }
+
+    private static String createKey(final UntypedDelegatingPortObjectEncoder encoder, final String fingerprint,
+        final IntermediateRepresentationKind representation) {
+        final var key = String.join("\n", String.valueOf(FORMAT_VERSION), encoder.getEncoderClassName(),
+            encoder.getEncoderVersion().orElse(""), encoder.getPortObjectClass().getName(),
+            String.valueOf(representation), fingerprint);
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available.", ex);
+        }
+    }
+
+    private Optional<PortObjectIntermediateRepresentation> get(final String key) {
+        final Entry entry;
+        synchronized (this) {
+            entry = m_entries.get(key);
+            if (entry == null) {
+                m_misses++;
+                return Optional.empty();
+            }
+        }
+        final Path link;
+        try {
+            link = link(entry);
+        } catch (IOException ex) {
+            // e.g. evicted or replaced concurrently
+            LOGGER.debug("Failed to link the payload of the cache entry " + key + ".", ex);
+            synchronized (this) {
+                m_misses++;
+            }
+            return Optional.empty();
+        }
+        try {
+            if (!entry.m_verified) {
+                verify(entry, link);
+            }
+            Files.setLastModifiedTime(metaPath(key), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            LOGGER.debug("Dropping the cache entry " + key + ".", ex);
+            deleteLink(link);
+            final boolean removed;
+            synchronized (this) {
+                removed = remove(entry);
+                m_corruptEntries++;
+                m_misses++;
+            }
+            if (removed) {
+                delete(key);
+            }
+            return Optional.empty();
+        }
+        synchronized (this) {
+            m_hits++;
+        }
+        if (entry.m_kind == IntermediateRepresentationKind.FILE) {
+            return Optional.of(new JavaFileIntermediateRepresentation(link));
+        }
+        final PortObjectIntermediateRepresentation representation =
+            entry.m_kind == IntermediateRepresentationKind.STRING ? new FileBackedStringIntermediateRepresentation(link)
+                : new FileBackedBinaryIntermediateRepresentation(link);
+        TransferAcknowledgements.onRelease(representation, () -> deleteLink(link));
+        return Optional.of(representation);
+    }
+
+    /**
+     * Links the payload of an entry into the link directory of this process.
+     *
+     * @return the link, which is shared by all file representations of the entry and unique otherwise
+     */
+    private Path link(final Entry entry) throws IOException {
+        final var payload = payloadPath(entry.m_key);
+        if (entry.m_kind == IntermediateRepresentationKind.FILE) {
+            final var link = m_linkDirectory.resolve(entry.m_key + PAYLOAD_SUFFIX);
+            try {
+                link(link, payload);
+                link.toFile().deleteOnExit();
+            } catch (FileAlreadyExistsException ex) { // NOSONAR linked for a previous file representation
+            }
+            return link;
+        }
+        final var link = m_linkDirectory.resolve(entry.m_key + "-" + m_nextLink.getAndIncrement() + PAYLOAD_SUFFIX);
+        link(link, payload);
+        return link;
+    }
+
+    private static void link(final Path link, final Path payload) throws IOException {
+        try {
+            Files.createLink(link, payload);
+        } catch (FileAlreadyExistsException | NoSuchFileException ex) {
+            throw ex;
+        } catch (UnsupportedOperationException | FileSystemException ex) { // NOSONAR falls back to a copy
+            Files.copy(payload, link);
+        }
+    }
+
+    private static void deleteLink(final Path link) {
+        try {
+            Files.deleteIfExists(link);
+        } catch (IOException ex) {
+            // deleted with the link directory once the process has ended
+            LOGGER.debug("Failed to delete the link " + link + ".", ex);
+        }
+    }
+
+    private static void verify(final Entry entry, final Path payload) throws IOException {
+        final var crc = new CRC32C();
+        final var buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        long size = 0;
+        try (var channel = FileChannel.open(payload, StandardOpenOption.READ)) {
+            for (int read = channel.read(buffer); read >= 0; read = channel.read(buffer)) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+                size += read;
+            }
+        }
+        if (size != entry.m_size || crc.getValue() != entry.m_checksum) {
+            throw new IOException("The checksum of the cache entry " + entry.m_key + " doesn't match.");
+        }
+        entry.m_verified = true;
+    }
+
+    private void put(final String key, final PortObjectIntermediateRepresentation representation)
+        throws IOException {
+        final var kind = IntermediateRepresentationKind.of(representation).orElse(null);
+        if (!CACHED_KINDS.contains(kind)) {
+            // nothing worth caching or a representation that the cache can't restore, e.g. a delta
+            return;
+        }
+        final var tempPayload = Files.createTempFile(m_directory, key, TEMP_SUFFIX);
+        try {
+            final var crc = new CRC32C();
+            try (var out = FileChannel.open(tempPayload, StandardOpenOption.WRITE)) {
+                writePayload(representation, out, crc);
+            }
+            final var size = Files.size(tempPayload);
+            if (size > m_maxSize) {
+                return;
+            }
+            final var entry = new Entry(key, kind, size, crc.getValue());
+            // the metadata is moved last, an entry without metadata is incomplete and ignored
+            Files.move(tempPayload, payloadPath(key), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+            writeMeta(entry);
+            entry.m_verified = true;
+            synchronized (this) {
+                final var previous = m_entries.put(key, entry);
+                m_size += size - (previous == null ? 0 : previous.m_size);
+                evict();
+            }
+        } finally {
+            Files.deleteIfExists(tempPayload);
+        }
+    }
+
+    private static void writePayload(final PortObjectIntermediateRepresentation representation,
+        final FileChannel out, final CRC32C crc) throws IOException {
+        if (representation instanceof FileBackedPayload fileBacked) {
+            copy(fileBacked.getPayloadPath(), out, crc);
+        } else if (representation instanceof StreamingStringIntermediateRepresentation streaming) {
+            // not closed, that would close the channel
+            final var writer = new OutputStreamWriter(
+                new CheckedOutputStream(Channels.newOutputStream(out), crc), StandardCharsets.UTF_8); // NOSONAR
+            streaming.writeTo(writer);
+            writer.flush();
+        } else if (representation instanceof StringIntermediateRepresentation string) {
+            write(ByteBuffer.wrap(string.getStringRepresentation().getBytes(StandardCharsets.UTF_8)), out, crc);
+        } else if (representation instanceof PooledBinaryIntermediateRepresentation pooled) {
+            // reads a view, the representation can still be sent afterwards
+            write(pooled.getBinaryBuffer(), out, crc);
+        } else if (representation instanceof BinaryIntermediateRepresentation binary) {
+            write(ByteBuffer.wrap(binary.getBinaryRepresentation()), out, crc);
+        } else if (representation instanceof FileIntermediateRepresentation file) {
+            copy(Paths.get(file.getFilePath()), out, crc);
+        } else {
+            throw new IllegalArgumentException("Unsupported intermediate representation: " + representation);
+        }
+    }
+
+    private static void copy(final Path source, final FileChannel out, final CRC32C crc) throws IOException {
+        final var buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        try (var in = FileChannel.open(source, StandardOpenOption.READ)) {
+            while (in.read(buffer) >= 0) {
+                buffer.flip();
+                write(buffer, out, crc);
+                buffer.clear();
+            }
+        }
+    }
+
+    private static void write(final ByteBuffer buffer, final FileChannel out, final CRC32C crc) throws IOException {
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /** Must be called while holding the lock. */
+    private void evict() {
+        final var iterator = m_entries.values().iterator();
+        while (m_size > m_maxSize && iterator.hasNext()) {
+            final var eldest = iterator.next();
+            iterator.remove();
+            m_size -= eldest.m_size;
+            m_evictions++;
+            delete(eldest.m_key);
+        }
+    }
+
+    /**
+     * Must be called while holding the lock.
+     *
+     * @return true if the entry was removed, false if it had already been replaced or removed
+     */
+    private boolean remove(final Entry entry) {
+        if (m_entries.remove(entry.m_key, entry)) {
+            m_size -= entry.m_size;
+            return true;
+        }
+        return false;
+    }
+
+    private void delete(final String key) {
+        try {
+            // the metadata first, so that an interrupted deletion leaves an incomplete entry behind
+            Files.deleteIfExists(metaPath(key));
+            Files.deleteIfExists(payloadPath(key));
+        } catch (IOException ex) {
+            // e.g. if the payload is still mapped on Windows, it is dropped again with the next process
+            LOGGER.debug("Failed to delete the cache entry " + key + ".", ex);
+        }
+    }
+
+    private void writeMeta(final Entry entry) throws IOException {
+        final var tempMeta = Files.createTempFile(m_directory, entry.m_key, TEMP_SUFFIX);
+        try {
+            try (var out = new DataOutputStream(Files.newOutputStream(tempMeta))) {
+                out.writeInt(META_MAGIC);
+                out.writeInt(META_VERSION);
+                out.writeUTF(entry.m_kind.name());
+                out.writeLong(entry.m_size);
+                out.writeLong(entry.m_checksum);
+            }
+            Files.move(tempMeta, metaPath(entry.m_key), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempMeta);
+        }
+    }
+
+    private Entry readMeta(final String key) throws IOException {
+        try (var in = new DataInputStream(Files.newInputStream(metaPath(key)))) {
+            if (in.readInt() != META_MAGIC || in.readInt() != META_VERSION) {
+                throw new IOException("Unknown metadata format.");
+            }
+            final var kind = IntermediateRepresentationKind.valueOf(in.readUTF());
+            final var size = in.readLong();
+            final var checksum = in.readLong();
+            if (!Files.isRegularFile(payloadPath(key))) {
+                throw new IOException("The payload is missing.");
+            }
+            return new Entry(key, kind, size, checksum);
+        }
+    }
+
+    private Path metaPath(final String key) {
+        return m_directory.resolve(key + META_SUFFIX);
+    }
+
+    private Path payloadPath(final String key) {
+        return m_directory.resolve(key + PAYLOAD_SUFFIX);
+    }
+
+    /**
+     * @return the current statistics of the cache
+     */
+    public synchronized DiskCacheStatistics getStatistics() {
+        return new DiskCacheStatistics(m_hits, m_misses, m_corruptEntries, m_evictions, m_entries.size(), m_size,
+            m_maxSize);
+    }
+
+    /**
+     * Deletes all entries. Representations that have been handed out stay readable.
+     */
+    public synchronized void clear() {
+        m_entries.keySet().forEach(this::delete);
+        m_entries.clear();
+        m_size = 0;
+    }
+
+    private static final class Entry {
+
+        private final String m_key;
+
+        private final IntermediateRepresentationKind m_kind;
+
+        private final long m_size;
+
+        private final long m_checksum;
+
+        /** Whether the checksum has been verified by this process. */
+        private volatile boolean m_verified;
+
+        Entry(final String key, final IntermediateRepresentationKind kind, final long size, final long checksum) {
+            m_key = key;
+            m_kind = kind;
+            m_size = size;
+            m_checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.util.Optional;
+
+import org.knime.python3.types.port.ir.BufferLease;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+
+/**
+ * Decorates a {@link PortObjectConversionContext} with the kind of intermediate representation negotiated for the
+ * conversion. Every other method of the context is forwarded to the decorated context, so whatever state it carries
+ * (e.g. its buffer pool) stays in effect. Methods added to {@link PortObjectConversionContext} or
+ * {@link PortObjectSpecConversionContext} must be forwarded here as well.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class NegotiatedPortObjectConversionContext implements PortObjectConversionContext {
+
+    private final PortObjectConversionContext m_delegate;
+
+    private final IntermediateRepresentationKind m_representation;
+
+    /**
+     * @param delegate the context to decorate, if it is itself negotiated its negotiated kind is replaced
+     * @param representation the negotiated kind of intermediate representation
+     */
+    NegotiatedPortObjectConversionContext(final PortObjectConversionContext delegate,
+        final IntermediateRepresentationKind representation) {
+        // don't stack decorators, the innermost context holds the state
+        m_delegate = delegate instanceof NegotiatedPortObjectConversionContext negotiated ? negotiated.m_delegate
+            : delegate;
+        m_representation = representation;
+    }
+
+    @Override
+    public Optional<IntermediateRepresentationKind> getNegotiatedRepresentation() {
+        return Optional.of(m_representation);
+    }
+
+    @Override
+    public boolean isTransferAcknowledged() {
+        return m_delegate.isTransferAcknowledged();
+    }
+
+    @Override
+    public BufferLease leaseBuffer(final int size) {
+        return m_delegate.leaseBuffer(size);
+    }
+}
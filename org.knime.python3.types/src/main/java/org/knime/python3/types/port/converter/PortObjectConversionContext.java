@@ -48,11 +48,35 @@
  */
 package org.knime.python3.types.port.converter;
 
+import java.util.Optional;
+
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+
 /**
- * Context for conversions. Empty for now but might be extended in future versions.
+ * Context for conversions.
  *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 public interface PortObjectConversionContext extends PortObjectSpecConversionContext {
 
-}
\ No newline at end of file
+    /**
+     * @return the kind of intermediate representation that was negotiated for the port object or empty if no
+     *         negotiation took place, in which case the converter uses the representation it has always used
+     * @see PortObjectConverter#getSupportedRepresentations()
+     */
+    default Optional<IntermediateRepresentationKind> getNegotiatedRepresentation() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return true if the representation of the port object is sent through a transport that
+     *         {@link TransferAcknowledgements acknowledges} its transfer, e.g. the
+     *         {@link org.knime.python3.types.port.transport.RingBufferTransport}, so that the memory reserved for the
+     *         conversion can be held until then. False by default, in which case the reservation ends with the
+     *         conversion.
+     */
+    default boolean isTransferAcknowledged() {
+        return false;
+    }
+}
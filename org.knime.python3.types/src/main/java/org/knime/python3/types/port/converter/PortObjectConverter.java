@@ -48,8 +48,11 @@
  */
 package org.knime.python3.types.port.converter;
 
+import java.util.List;
+
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
 
 /**
  * Common interface of converters for converting Java {@link PortObject PortObjects} and {@link PortObjectSpec specs} to
@@ -70,4 +73,17 @@ public interface PortObjectConverter<O extends PortObject, S extends PortObjectS
      * @return the class of {@link PortObjectSpec} this converter operates on
      */
     Class<S> getPortObjectSpecClass();
+
+    /**
+     * Declares the kinds of intermediate representations this converter can produce (encoders) or consume (decoders)
+     * for port objects, in order of preference (typically cheapest first). The framework picks the first kind that is
+     * also supported by the transport and the Python implementation of the converter and provides it via
+     * {@link PortObjectConversionContext#getNegotiatedRepresentation()}.
+     *
+     * @return the supported kinds in order of preference or an empty list if the converter doesn't take part in the
+     *         negotiation (the default)
+     */
+    default List<IntermediateRepresentationKind> getSupportedRepresentations() {
+        return List.of();
+    }
 }
@@ -52,9 +52,13 @@ import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
 import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
+import org.knime.python3.types.port.ir.ReadableBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.ReadableStringIntermediateRepresentation;
 
 /**
- * Decodes a {@link PortObjectIntermediateRepresentation} into a {@link PortObject}.
+ * Decodes a {@link PortObjectIntermediateRepresentation} into a {@link PortObject}. Transports that stream payloads
+ * pass {@link ReadableStringIntermediateRepresentation} and {@link ReadableBinaryIntermediateRepresentation}
+ * instances, which decoders with a streaming parser can read while the payload is still being received.
  *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  * @param <O> the type of PortObject used by this converter
@@ -76,6 +80,20 @@ public interface PortObjectDecoder<O extends PortObject, T extends PortObjectInt
      */
     O decodePortObject(T intermediateRepresentation, S spec, PortObjectConversionContext context);
 
+    /**
+     * Estimates the memory that
+     * {@link #decodePortObject(PortObjectIntermediateRepresentation, PortObjectSpec, PortObjectConversionContext)}
+     * needs for the given intermediate representation. The framework reserves the estimated size with the
+     * {@link ConversionMemoryGovernor} before decoding, so that concurrent conversions don't exhaust the heap.
+     *
+     * @param intermediateRepresentation the representation that will be decoded
+     * @return the estimated size in bytes or a negative value if it is unknown (the default), in which case no memory
+     *         is reserved
+     */
+    default long estimatePortObjectSize(final T intermediateRepresentation) {
+        return -1;
+    }
+
     /**
      * Creates a {@link PortObjectSpec} from the data in a transfer object that is created on the Python side.
      *
@@ -0,0 +1,417 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.python3.types.port.PythonPortObjectConverterExtension;
+import org.knime.python3.types.port.ir.IntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.port.ir.JavaSharedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.SharedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+
+/**
+ * Encodes port objects that are sent to Python several times only once. Port objects are considered identical if they
+ * are the same instance or if their encoder computes equal {@link PortObjectEncoder#getContentFingerprint(PortObject)
+ * content fingerprints}.
+ *
+ * The deduplication happens on two levels:
+ * <ul>
+ * <li>Concurrent conversions of identical port objects, also by different nodes, share one encoding for as long as
+ * at least one of them holds it.</li>
+ * <li>Within a {@link Session}, which lives as long as the Python process it sends to, an identical port object is
+ * transferred in full only once and referenced afterwards, see {@link SharedIntermediateRepresentation}. The Python
+ * side decodes it once and shares the decoded object. Only used if the transport and the Python implementation of the
+ * converter support the {@link IntermediateRepresentationKind#SHARED shared} kind.</li>
+ * </ul>
+ *
+ * Encodings are shared without copying. Every conversion
+ * {@link TransferAcknowledgements#retain(IntermediateRepresentation) retains} the encoding, so that pooled buffers,
+ * memory reservations and files it depends on are only released once the last conversion has transferred or discarded
+ * it.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class PortObjectDeduplicator {
+
+    private static final PortObjectDeduplicator INSTANCE = new PortObjectDeduplicator();
+
+    private final Map<Key, Entry> m_entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong m_nextInstanceId = new AtomicLong();
+
+    private final AtomicLong m_encodings = new AtomicLong();
+
+    private final AtomicLong m_sharedEncodings = new AtomicLong();
+
+    /**
+     * Statistics of a {@link PortObjectDeduplicator}.
+     *
+     * @param encodings the number of port objects that were encoded
+     * @param sharedEncodings the number of conversions that used the encoding of an identical port object
+     * @param activeEncodings the number of encodings that are currently held
+     */
+    public record DeduplicationStatistics(long encodings, long sharedEncodings, int activeEncodings) {
+    }
+
+    /**
+     * @return the deduplicator shared by all nodes
+     */
+    public static PortObjectDeduplicator getDefault() {
+        return INSTANCE;
+    }
+
+    /**
+     * Opens a session for a Python process. Port objects sent within the session are transferred in full only once.
+     *
+     * @return a new session, which must be {@link Session#close() closed} once the Python process no longer holds the
+     *         decoded port objects
+     */
+    public Session openSession() {
+        return new Session();
+    }
+
+    /**
+     * @return the current statistics of the deduplicator
+     */
+    public DeduplicationStatistics getStatistics() {
+        return new DeduplicationStatistics(m_encodings.get(), m_sharedEncodings.get(), m_entries.size());
+    }
+
+    private SharedEncoding acquire(final UntypedDelegatingPortObjectEncoder encoder, final PortObject portObject,
+        final PortObjectConversionContext context, final IntermediateRepresentationKind representation,
+        final boolean spillable) {
+        final Object identity = encoder.getContentFingerprint(portObject) //
+            .<Object> map(f -> f) //
+            .orElseGet(() -> new Instance(portObject));
+        final var key = new Key(encoder, representation, spillable, identity);
+        final var created = new boolean[1];
+        final var entry = m_entries.compute(key, (k, existing) -> {
+            var e = existing;
+            if (e == null) {
+                created[0] = true;
+                e = new Entry(createShareKey(k));
+            }
+            e.m_references++;
+            return e;
+        });
+        if (created[0]) {
+            m_encodings.incrementAndGet();
+            try {
+                final var ir = representation == null ? encoder.encodePortObject(portObject, context)
+                    : encoder.encodePortObject(portObject, context, representation, spillable);
+                entry.m_representation.complete(ir);
+            } catch (RuntimeException | Error ex) { // NOSONAR passed on to all users of the entry
+                entry.m_representation.completeExceptionally(ex);
+            }
+        } else {
+            m_sharedEncodings.incrementAndGet();
+        }
+        return new SharedEncoding(key, entry);
+    }
+
+    private String createShareKey(final Key key) {
+        final var kind = key.representation() == null ? "" : "@" + key.representation();
+        if (key.identity() instanceof Instance) {
+            return "instance-" + m_nextInstanceId.getAndIncrement() + kind;
+        }
+        return key.encoder().getPortObjectClass().getName() + "#" + key.identity() + kind;
+    }
+
+    private void release(final Key key, final Entry entry) {
+        final var removed = new boolean[1];
+        m_entries.computeIfPresent(key, (k, e) -> {
+            if (e != entry) {
+                return e;
+            }
+            e.m_references--;
+            // failed encodings are not kept so that they are retried with the next conversion
+            removed[0] = e.m_references == 0 || e.m_representation.isCompletedExceptionally();
+            return removed[0] ? null : e;
+        });
+        if (removed[0] && entry.m_representation.isDone() && !entry.m_representation.isCompletedExceptionally()) {
+            // the conversions that used the encoding retained it for themselves
+            TransferAcknowledgements.discard(entry.m_representation.join());
+        }
+    }
+
+    /**
+     * Transfers identical port objects to one Python process only once. Not meant to be shared between Python
+     * processes.
+     */
+    public final class Session implements AutoCloseable {
+
+        /** The port objects sent with the shared kind by share key. */
+        private final Map<String, Transfers> m_sent = new HashMap<>();
+
+        /** The encodings of port objects sent without the shared kind by share key. */
+        private final Map<String, SharedEncoding> m_held = new HashMap<>();
+
+        private Session() {
+        }
+
+        /**
+         * Encodes a port object for the Python process of this session. The kind of intermediate representation is
+         * {@link PythonPortObjectConverterExtension#negotiateRepresentation(Collection) negotiated} as for any other
+         * port object. If the transport and the Python implementation support the
+         * {@link IntermediateRepresentationKind#SHARED shared} kind, the result is a
+         * {@link SharedIntermediateRepresentation}: the full representation if the port object has not been
+         * transferred in this session yet, otherwise a reference to it. Otherwise the full representation is returned,
+         * which is still encoded only once for concurrent conversions.
+         *
+         * A port object only counts as transferred once the transport has
+         * {@link TransferAcknowledgements#acknowledge(IntermediateRepresentation) acknowledged} its full
+         * representation, so that a reference never reaches the Python process before the full representation.
+         * Conversions of the same port object in the meantime get the full representation with the same share key as
+         * well instead of waiting for the transfer. The Python side decodes the first one and may ignore the others.
+         *
+         * @param extension the encoder for the port object and its Python implementation
+         * @param portObject to encode
+         * @param context in which the conversion happens
+         * @param transportRepresentations the kinds of intermediate representations supported by the transport
+         * @return the intermediate representation to send to Python
+         */
+        public PortObjectIntermediateRepresentation encodePortObject(
+            final PythonPortObjectConverterExtension<UntypedDelegatingPortObjectEncoder> extension,
+            final PortObject portObject, final PortObjectConversionContext context,
+            final Collection<IntermediateRepresentationKind> transportRepresentations) {
+            final var encoding = acquire(extension.converter(), portObject, context,
+                extension.negotiateRepresentation(transportRepresentations).orElse(null),
+                extension.supportsSpilling(transportRepresentations));
+            if (extension.supportsWrapper(IntermediateRepresentationKind.SHARED, transportRepresentations)) {
+                return share(encoding);
+            }
+            final var representation = retain(encoding);
+            synchronized (this) {
+                // the encoding is held until the session is closed so that later conversions can use it
+                if (m_held.putIfAbsent(encoding.m_entry.m_shareKey, encoding) != null) {
+                    encoding.close();
+                }
+            }
+            return representation;
+        }
+
+        private PortObjectIntermediateRepresentation share(final SharedEncoding encoding) {
+            final var shareKey = encoding.m_entry.m_shareKey;
+            synchronized (this) {
+                final var sent = m_sent.get(shareKey);
+                if (sent != null && sent.m_acknowledged) {
+                    encoding.close();
+                    return JavaSharedIntermediateRepresentation.reference(shareKey);
+                }
+            }
+            final var representation = retain(encoding);
+            final Transfers transfers;
+            synchronized (this) {
+                final var sent = m_sent.get(shareKey);
+                if (sent == null) {
+                    // the encoding is held until the session is closed so that the share key stays valid
+                    transfers = new Transfers(encoding);
+                    m_sent.put(shareKey, transfers);
+                } else {
+                    encoding.close();
+                    if (sent.m_acknowledged) {
+                        TransferAcknowledgements.discard(representation);
+                        return JavaSharedIntermediateRepresentation.reference(shareKey);
+                    }
+                    transfers = sent;
+                }
+                transfers.m_pending++;
+            }
+            final var full = JavaSharedIntermediateRepresentation.full(shareKey, representation);
+            TransferAcknowledgements.onAcknowledge(full, () -> acknowledged(transfers));
+            TransferAcknowledgements.onRelease(full, () -> released(shareKey, transfers));
+            return full;
+        }
+
+        private synchronized void acknowledged(final Transfers transfers) {
+            transfers.m_acknowledged = true;
+        }
+
+        private synchronized void released(final String shareKey, final Transfers transfers) {
+            transfers.m_pending--;
+            // if no transfer succeeded, the next conversion sends the full representation again
+            if (transfers.m_pending == 0 && !transfers.m_acknowledged && m_sent.remove(shareKey, transfers)) {
+                transfers.m_encoding.close();
+            }
+        }
+
+        /**
+         * @return the representation of the encoding {@link TransferAcknowledgements#retain(IntermediateRepresentation)
+         *         retained} for the caller
+         */
+        private static PortObjectIntermediateRepresentation retain(final SharedEncoding encoding) {
+            try {
+                return TransferAcknowledgements.retain(encoding.getRepresentation());
+            } catch (RuntimeException | Error ex) { // NOSONAR rethrown
+                encoding.close();
+                throw ex;
+            }
+        }
+
+        /**
+         * Releases the encodings of all port objects sent in this session.
+         */
+        @Override
+        public synchronized void close() {
+            m_sent.values().forEach(transfers -> transfers.m_encoding.close());
+            m_sent.clear();
+            m_held.values().forEach(SharedEncoding::close);
+            m_held.clear();
+        }
+    }
+
+    /**
+     * The transfers of the full representation of a port object within a {@link Session}, guarded by the session.
+     */
+    private static final class Transfers {
+
+        private final SharedEncoding m_encoding;
+
+        /** The number of full representations that have been handed out but not yet acknowledged or released. */
+        private int m_pending;
+
+        /** Whether a full representation has been acknowledged, i.e. whether references can be sent. */
+        private boolean m_acknowledged;
+
+        Transfers(final SharedEncoding encoding) {
+            m_encoding = encoding;
+        }
+    }
+
+    private final class SharedEncoding {
+
+        private final Key m_key;
+
+        private final Entry m_entry;
+
+        private boolean m_released;
+
+        SharedEncoding(final Key key, final Entry entry) {
+            m_key = key;
+            m_entry = entry;
+        }
+
+        PortObjectIntermediateRepresentation getRepresentation() {
+            try {
+                return m_entry.m_representation.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+
+        synchronized void close() {
+            if (!m_released) {
+                m_released = true;
+                release(m_key, m_entry);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final String m_shareKey;
+
+        private final CompletableFuture<PortObjectIntermediateRepresentation> m_representation =
+            new CompletableFuture<>();
+
+        // guarded by the map's compute methods
+        private int m_references;
+
+        Entry(final String shareKey) {
+            m_shareKey = shareKey;
+        }
+    }
+
+    /**
+     * @param representation the negotiated kind of representation or null if none was negotiated
+     * @param spillable whether the encoding may be a file representation instead of the negotiated kind
+     * @param identity either the content fingerprint or the {@link Instance} of the port object
+     */
+    private record Key(UntypedDelegatingPortObjectEncoder encoder, IntermediateRepresentationKind representation,
+        boolean spillable, Object identity) {
+    }
+
+    /**
+     * Compares port objects by identity.
+     */
+    private static final class Instance {
+
+        private final PortObject m_portObject;
+
+        Instance(final PortObject portObject) {
+            m_portObject = portObject;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Instance other && other.m_portObject == m_portObject;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(m_portObject);
+        }
+    }
+}
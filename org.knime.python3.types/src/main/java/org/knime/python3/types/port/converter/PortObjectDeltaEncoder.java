@@ -0,0 +1,88 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.util.Optional;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+
+/**
+ * A {@link PortObjectEncoder} that can express a port object as a delta against the representation of the port object
+ * that was previously sent for the same port. Useful for port objects that only change slightly between loop
+ * iterations, e.g. incrementally updated models.
+ *
+ * The Python implementation of the converter must be able to apply the delta to the full representation of the
+ * previous revision. Deltas are only used if the framework tracks the port via a {@link PortObjectDeltaTracker} and
+ * both the Python implementation and the transport support the
+ * {@link org.knime.python3.types.port.ir.IntermediateRepresentationKind#DELTA delta} kind. A delta must be of a kind
+ * that both support, otherwise the full representation is sent.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @param <O> The type of {@link PortObject}
+ * @param <S> the type of {@link PortObjectSpec}
+ */
+public interface PortObjectDeltaEncoder<O extends PortObject, S extends PortObjectSpec>
+    extends PortObjectEncoder<O, S> {
+
+    /**
+     * Computes the delta between two full representations created by
+     * {@link #encodePortObject(PortObject, PortObjectConversionContext)}.
+     *
+     * @param previous a copy of the full representation that was sent last for the port, which stays valid after the
+     *            representation that was sent has been released, e.g. after its pooled buffer went back to the pool
+     * @param current the full representation of the current port object
+     * @param context in which the conversion happens
+     * @return the delta that turns previous into current or empty if the full representation should be sent instead,
+     *         e.g. because the delta wouldn't be smaller
+     */
+    Optional<PortObjectIntermediateRepresentation> encodeDelta(PortObjectIntermediateRepresentation previous,
+        PortObjectIntermediateRepresentation current, PortObjectConversionContext context);
+}
@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.python3.types.port.PythonPortObjectConverterExtension;
+import org.knime.python3.types.port.ir.BinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.DeltaIntermediateRepresentation;
+import org.knime.python3.types.port.ir.FileBackedPayload;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.port.ir.JavaBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaDeltaIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaMultipartIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.MultipartIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PooledBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.StringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+
+/**
+ * Keeps track of the port objects that were last sent to Python for a set of ports and encodes subsequent port objects
+ * for the same port as {@link DeltaIntermediateRepresentation deltas} if the encoder is a
+ * {@link PortObjectDeltaEncoder} and both the transport and the Python implementation support the
+ * {@link IntermediateRepresentationKind#DELTA delta} kind. Meant to live as long as the Python process that holds the
+ * previous revisions, e.g. for the duration of a loop. If the Python side loses its state, {@link #reset(String)} or
+ * {@link #clear()} must be called so that the full representation is sent again.
+ *
+ * The tracker keeps its own copy of the last full representation of each port, which stays valid after the
+ * representation that was sent has been acknowledged by the transport, e.g. a pooled buffer is
+ * {@link PooledBinaryIntermediateRepresentation#retain() retained}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class PortObjectDeltaTracker {
+
+    private final Map<String, Revision> m_lastRevisions = new HashMap<>();
+
+    private long m_nextRevision;
+
+    /**
+     * Encodes the port object for the given port. The kind of the full representation is
+     * {@link PythonPortObjectConverterExtension#negotiateRepresentation(Collection) negotiated} as for any other port
+     * object. If the encoder supports deltas and both the transport and the Python implementation support the
+     * {@link IntermediateRepresentationKind#DELTA delta} kind, the result is a {@link DeltaIntermediateRepresentation}
+     * which contains either a delta against the previously sent revision of the port or, for the first revision, the
+     * full representation. Otherwise the full representation is returned as is.
+     *
+     * @param portKey identifies the port, e.g. the node and port index
+     * @param extension the encoder for the port object and its Python implementation
+     * @param portObject to encode
+     * @param context in which the conversion happens
+     * @param transportRepresentations the kinds of intermediate representations supported by the transport
+     * @return the intermediate representation to send to Python
+     */
+    public PortObjectIntermediateRepresentation encodePortObject(final String portKey,
+        final PythonPortObjectConverterExtension<UntypedDelegatingPortObjectEncoder> extension,
+        final PortObject portObject, final PortObjectConversionContext context,
+        final Collection<IntermediateRepresentationKind> transportRepresentations) {
+        final var encoder = extension.converter();
+        final var representation = extension.negotiateRepresentation(transportRepresentations);
+        final var full = representation.isPresent() //
+            ? encoder.encodePortObject(portObject, context, representation.get(),
+                extension.supportsSpilling(transportRepresentations)) //
+            : encoder.encodePortObject(portObject, context);
+        if (!encoder.supportsDeltaEncoding()
+            || !extension.supportsWrapper(IntermediateRepresentationKind.DELTA, transportRepresentations)) {
+            return full;
+        }
+        return track(portKey, encoder, full, context, kind -> !kind.isWrapper() && IntermediateRepresentationKind
+            .supports(kind, transportRepresentations, extension.pythonImplementation().supportedRepresentations()));
+    }
+
+    private synchronized PortObjectIntermediateRepresentation track(final String portKey,
+        final UntypedDelegatingPortObjectEncoder encoder, final PortObjectIntermediateRepresentation full,
+        final PortObjectConversionContext context, final Predicate<IntermediateRepresentationKind> transferable) {
+        var revision = m_nextRevision++;
+        var previous = m_lastRevisions.put(portKey, new Revision(encoder, revision, snapshot(full)));
+        if (previous == null) {
+            return new JavaDeltaIntermediateRepresentation(portKey, revision,
+                DeltaIntermediateRepresentation.NO_BASE_REVISION, full);
+        }
+        try {
+            if (previous.encoder() == encoder) {
+                var delta = encoder.encodeDelta(previous.representation(), full, context);
+                // a delta of a kind that can't be transferred is replaced by the full representation
+                if (delta.isPresent()
+                    && IntermediateRepresentationKind.of(delta.get()).filter(transferable).isPresent()) {
+                    return new JavaDeltaIntermediateRepresentation(portKey, revision, previous.revision(),
+                        delta.get());
+                }
+            }
+            return new JavaDeltaIntermediateRepresentation(portKey, revision,
+                DeltaIntermediateRepresentation.NO_BASE_REVISION, full);
+        } finally {
+            TransferAcknowledgements.discard(previous.representation());
+        }
+    }
+
+    /**
+     * Creates a copy of a full representation that stays valid after the representation has been sent, i.e. after a
+     * pooled buffer went back to the pool or after the file that backs the payload has been deleted.
+     */
+    private static PortObjectIntermediateRepresentation
+        snapshot(final PortObjectIntermediateRepresentation representation) {
+        if (representation instanceof PooledBinaryIntermediateRepresentation pooled) {
+            return pooled.retain();
+        } else if (representation instanceof FileBackedPayload
+            && representation instanceof StringIntermediateRepresentation string) {
+            return new JavaStringIntermediateRepresentation(string.getStringRepresentation());
+        } else if (representation instanceof FileBackedPayload
+            && representation instanceof BinaryIntermediateRepresentation binary) {
+            return new JavaBinaryIntermediateRepresentation(binary.getBinaryRepresentation());
+        } else if (representation instanceof MultipartIntermediateRepresentation multipart) {
+            final var builder = JavaMultipartIntermediateRepresentation.builder();
+            for (var name : multipart.getPartNames()) {
+                builder.addPart(name, snapshot(multipart.getPart(name)));
+            }
+            return builder.build();
+        }
+        return representation;
+    }
+
+    /**
+     * Forgets the previous revision of the given port, so that the next port object is sent in full.
+     *
+     * @param portKey identifies the port
+     */
+    public synchronized void reset(final String portKey) {
+        final var previous = m_lastRevisions.remove(portKey);
+        if (previous != null) {
+            TransferAcknowledgements.discard(previous.representation());
+        }
+    }
+
+    /**
+     * Forgets the previous revisions of all ports.
+     */
+    public synchronized void clear() {
+        m_lastRevisions.values().forEach(r -> TransferAcknowledgements.discard(r.representation()));
+        m_lastRevisions.clear();
+    }
+
+    private record Revision(UntypedDelegatingPortObjectEncoder encoder, long revision,
+        PortObjectIntermediateRepresentation representation) {
+    }
+}
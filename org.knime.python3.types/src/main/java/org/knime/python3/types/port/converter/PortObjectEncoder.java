@@ -48,6 +48,8 @@
  */
 package org.knime.python3.types.port.converter;
 
+import java.util.Optional;
+
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
@@ -80,4 +82,58 @@ public interface PortObjectEncoder<O extends PortObject, S extends PortObjectSpe
      */
     PortObjectSpecIntermediateRepresentation encodePortObjectSpec(final S spec, final PortObjectSpecConversionContext context);
 
+    /**
+     * Estimates the size of the payload that {@link #encodePortObject(PortObject, PortObjectConversionContext)} creates
+     * for the given port object. The framework reserves the estimated size with the {@link ConversionMemoryGovernor}
+     * before encoding and holds it until the representation has been transferred, so that concurrent conversions
+     * don't exhaust the heap. Encoders that support
+     * {@link org.knime.python3.types.port.ir.IntermediateRepresentationKind#FILE file} representations may be asked to
+     * spill, i.e. to produce one via the {@link PortObjectConversionContext#getNegotiatedRepresentation() negotiated
+     * representation}, if the Python implementation and the transport support them as well.
+     *
+     * @param portObject the port object that will be encoded
+     * @return the estimated size in bytes or a negative value if it is unknown (the default), in which case no memory
+     *         is reserved
+     */
+    default long estimatePortObjectSize(final O portObject) {
+        return -1;
+    }
+
+    /**
+     * Computes a fingerprint of the content of the given port object that the {@link PortObjectDeduplicator} uses to
+     * encode and transfer port objects with equal content only once. Port objects without fingerprint are only
+     * deduplicated if they are the same instance. Only return a fingerprint if port objects with equal fingerprints
+     * always result in equal intermediate representations.
+     *
+     * @param portObject the port object that will be encoded
+     * @return the fingerprint or empty if the content can't be fingerprinted cheaply (the default)
+     */
+    default Optional<String> getContentFingerprint(final O portObject) {
+        return Optional.empty();
+    }
+
+    /**
+     * Opt-in for caching the results of {@link #encodePortObjectSpec(PortObjectSpec, PortObjectSpecConversionContext)}.
+     * Only return true if the encoding of specs is pure, i.e. equal specs always result in equal intermediate
+     * representations regardless of the context, and the returned representations are immutable. The framework may
+     * then return a cached representation for a spec that is equal to a previously encoded one.
+     *
+     * @return true if the spec encoding is pure and may be cached, false by default
+     */
+    default boolean isSpecEncodingPure() {
+        return false;
+    }
+
+    /**
+     * Provides a port object that the opt-in warm-up of the Python type registries encodes once in the background at
+     * startup, together with its spec, so that the classes and hot paths of the conversion are loaded and compiled
+     * before the first Python node runs. Decoders of the same port object class are warmed up with the resulting
+     * representations. Only provide a small port object that can be created without a workflow or node context.
+     *
+     * @return the port object or empty if the encoder isn't warmed up (the default)
+     */
+    default Optional<O> createWarmUpPortObject() {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.python3.types.port.ir.JavaStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
+
+/**
+ * Decodes the specs of all output ports of a node in one go. Allows the Python side to hand over the payloads of all
+ * output specs in a single call during configure, see {@link #decodePortObjectSpecPayloads(List,
+ * PortObjectSpecConversionContext)}, instead of one call per port.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class PortObjectSpecBatchDecoder {
+
+    private final List<UntypedDelegatingPortObjectDecoder> m_decoders;
+
+    /**
+     * @param decoders the decoders of the output ports in port order
+     */
+    public PortObjectSpecBatchDecoder(final List<UntypedDelegatingPortObjectDecoder> decoders) {
+        m_decoders = List.copyOf(decoders);
+    }
+
+    /**
+     * @return the number of ports decoded by this batch decoder
+     */
+    public int getNumPorts() {
+        return m_decoders.size();
+    }
+
+    /**
+     * Decodes the specs of all ports from their string payloads. Meant to be called by the Python side with a Python
+     * list of strings, which the gateway converts into a Java list within the same call, so that the payloads of all
+     * ports cross the gateway at once. Passing the Python-implemented intermediate representations instead would cost
+     * one call back into Python per port to read their payloads.
+     *
+     * @param payloads the string payloads of the spec representations in port order, null for ports without a spec
+     * @param context in which the conversion happens
+     * @return the decoded specs in port order, null where the payload was null
+     * @throws IllegalArgumentException if the number of payloads doesn't match the number of ports
+     */
+    public PortObjectSpec[] decodePortObjectSpecPayloads(final List<String> payloads,
+        final PortObjectSpecConversionContext context) {
+        final var representations = new ArrayList<JavaStringIntermediateRepresentation>(payloads.size());
+        for (var payload : payloads) {
+            representations.add(payload == null ? null : new JavaStringIntermediateRepresentation(payload));
+        }
+        return decodePortObjectSpecs(representations, context);
+    }
+
+    /**
+     * Decodes the specs of all ports from intermediate representations that are available on the Java side, e.g.
+     * because they have been received through a transport.
+     *
+     * @param representations the intermediate representations in port order, null for ports without a spec
+     * @param context in which the conversion happens
+     * @return the decoded specs in port order, null where the representation was null
+     * @throws IllegalArgumentException if the number of representations doesn't match the number of ports
+     */
+    public PortObjectSpec[] decodePortObjectSpecs(
+        final List<? extends PortObjectSpecIntermediateRepresentation> representations,
+        final PortObjectSpecConversionContext context) {
+        if (representations.size() != m_decoders.size()) {
+            throw new IllegalArgumentException("Expected %d spec representations but received %d."
+                .formatted(m_decoders.size(), representations.size()));
+        }
+        var specs = new PortObjectSpec[m_decoders.size()];
+        for (int i = 0; i < specs.length; i++) {
+            var representation = representations.get(i);
+            if (representation != null) {
+                specs[i] = m_decoders.get(i).decodePortObjectSpec(representation, context);
+            }
+        }
+        return specs;
+    }
+}
@@ -48,11 +48,25 @@
  */
 package org.knime.python3.types.port.converter;
 
+import org.knime.python3.types.port.ir.BufferLease;
+import org.knime.python3.types.port.ir.DirectBufferPool;
+import org.knime.python3.types.port.ir.PooledBinaryIntermediateRepresentation;
+
 /**
- * Context in which a spec conversion takes place. Empty for now but might be extended in future versions.
+ * Context in which a spec conversion takes place.
  *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 public interface PortObjectSpecConversionContext {
 
+    /**
+     * Leases a reusable direct buffer for the payload of an intermediate representation, e.g. to create a
+     * {@link PooledBinaryIntermediateRepresentation}.
+     *
+     * @param size the number of bytes that are needed
+     * @return the lease, see {@link DirectBufferPool#lease(int)}
+     */
+    default BufferLease leaseBuffer(final int size) {
+        return DirectBufferPool.getDefault().lease(size);
+    }
 }
@@ -48,8 +48,13 @@
  */
 package org.knime.python3.types.port.converter;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
+import org.knime.python3.types.port.converter.ConversionScheduler.Priority;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
 import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
 import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
 
@@ -69,6 +74,8 @@ public final class UntypedDelegatingPortObjectDecoder implements UntypedPortObje
 
     private final Class<? extends PortObjectSpec> m_specClass;
 
+    private final List<IntermediateRepresentationKind> m_supportedRepresentations;
+
     /**
      * @param <T> the type of transfer used for the port objects
      * @param <S> the type of spec the converter uses
@@ -80,6 +87,7 @@ public final class UntypedDelegatingPortObjectDecoder implements UntypedPortObje
         m_absorbingDecoder = new GenericsAbsorbingDecoder<>(typedConverter);
         m_poClass = typedConverter.getPortObjectClass();
         m_specClass = typedConverter.getPortObjectSpecClass();
+        m_supportedRepresentations = List.copyOf(typedConverter.getSupportedRepresentations());
     }
 
     @Override
@@ -92,6 +100,11 @@ public final class UntypedDelegatingPortObjectDecoder implements UntypedPortObje
         return m_specClass;
     }
 
+    @Override
+    public List<IntermediateRepresentationKind> getSupportedRepresentations() {
+        return m_supportedRepresentations;
+    }
+
     /**
      * @param transfer the transfer object that is converted into the spec
      * @param context in which the conversion happens
@@ -103,14 +116,54 @@ public final class UntypedDelegatingPortObjectDecoder implements UntypedPortObje
     }
 
     /**
+     * If the decoder {@link PortObjectDecoder#estimatePortObjectSize(PortObjectIntermediateRepresentation) estimates}
+     * the memory it needs, the size is reserved with the {@link ConversionMemoryGovernor#getDefault() shared memory
+     * governor} during the conversion. Even if the transfer is acknowledged, the reservation ends with the
+     * conversion: the representation has already been received at that point, and the memory of the port object is
+     * managed by KNIME.
+     *
      * @param transfer the object that is converted into the port object
      * @param spec the spec used by the port object
      * @param context in which the conversion happens
      * @return the {@link PortObject} created from the transfer object and the spec
      */
+    @SuppressWarnings("try") // the reservation is only held while decoding
     public PortObject decodePortObject(final PortObjectIntermediateRepresentation transfer, final PortObjectSpec spec,
         final PortObjectConversionContext context) {
-        return m_absorbingDecoder.decodePortObject(transfer, spec, context);
+        final var estimatedSize = m_absorbingDecoder.estimatePortObjectSize(transfer);
+        if (estimatedSize < 0) {
+            return m_absorbingDecoder.decodePortObject(transfer, spec, context);
+        }
+        try (var reservation = ConversionMemoryGovernor.getDefault().reserveForConversion(estimatedSize, false)) {
+            return m_absorbingDecoder.decodePortObject(transfer, spec, context);
+        }
+    }
+
+    /**
+     * Converts a spec on the {@link ConversionScheduler#getDefault() shared scheduler} with
+     * {@link Priority#INTERACTIVE interactive} priority.
+     *
+     * @param transfer the transfer object that is converted into the spec
+     * @param context in which the conversion happens
+     * @return a future of the {@link PortObjectSpec} created from the transfer object
+     */
+    public CompletableFuture<PortObjectSpec> decodePortObjectSpecAsync(
+        final PortObjectSpecIntermediateRepresentation transfer, final PortObjectSpecConversionContext context) {
+        return ConversionScheduler.getDefault().submit(Priority.INTERACTIVE,
+            () -> decodePortObjectSpec(transfer, context));
+    }
+
+    /**
+     * Converts a port object on the {@link ConversionScheduler#getDefault() shared scheduler}.
+     *
+     * @param transfer the object that is converted into the port object
+     * @param spec the spec used by the port object
+     * @param context in which the conversion happens
+     * @return a future of the {@link PortObject} created from the transfer object and the spec
+     */
+    public CompletableFuture<PortObject> decodePortObjectAsync(final PortObjectIntermediateRepresentation transfer,
+        final PortObjectSpec spec, final PortObjectConversionContext context) {
+        return ConversionScheduler.getDefault().submit(Priority.BULK, () -> decodePortObject(transfer, spec, context));
     }
 
     private static final class GenericsAbsorbingDecoder<O extends PortObject, T extends PortObjectIntermediateRepresentation, S extends PortObjectSpec, V extends PortObjectSpecIntermediateRepresentation> {
@@ -127,6 +180,11 @@ public final class UntypedDelegatingPortObjectDecoder implements UntypedPortObje
             return m_typedConverter.decodePortObject((T)source, (S)spec, context);
         }
 
+        @SuppressWarnings("unchecked")
+        long estimatePortObjectSize(final PortObjectIntermediateRepresentation source) {
+            return m_typedConverter.estimatePortObjectSize((T)source);
+        }
+
         @SuppressWarnings("unchecked")
         PortObjectSpec decodePortObjectSpec(final PortObjectSpecIntermediateRepresentation source,
             final PortObjectSpecConversionContext context) {
@@ -48,10 +48,21 @@
  */
 package org.knime.python3.types.port.converter;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
+import org.knime.python3.types.port.converter.ConversionScheduler.Priority;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.port.ir.JavaEmptyIntermediateRepresentation;
 import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
 import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+import org.knime.python3.types.util.LruCache;
+import org.knime.python3.types.util.LruCache.CacheStatistics;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * Strips the generics from a {@link PortObjectEncoder} for subsequent use in the framework where the
@@ -63,12 +74,27 @@ import org.knime.python3.types.port.ir.PortObjectSpecIntermediateRepresentation;
  */
 public final class UntypedDelegatingPortObjectEncoder implements UntypedPortObjectConverter {
 
+    /**
+     * The system property for the size of the spec cache. Setting it to 0 disables the cache.
+     */
+    public static final String SPEC_CACHE_SIZE_PROPERTY = "knime.python.types.specCacheSize";
+
+    /**
+     * The maximal number of encoded specs cached per converter, can be configured with the system property
+     * {@value #SPEC_CACHE_SIZE_PROPERTY}.
+     */
+    private static final int SPEC_CACHE_SIZE = Integer.getInteger(SPEC_CACHE_SIZE_PROPERTY, 16);
+
     private final GenericAbsorbingEncoder<?, ?> m_absorbingEncoder;
 
     private final Class<? extends PortObject> m_poClass;
 
     private final Class<? extends PortObjectSpec> m_specClass;
 
+    private final List<IntermediateRepresentationKind> m_supportedRepresentations;
+
+    private final LruCache<PortObjectSpec, PortObjectSpecIntermediateRepresentation> m_specCache;
+
     /**
      * @param <O> the type of PortObject
      * @param <S> the type of PortObjectSpec
@@ -79,10 +105,15 @@ public final class UntypedDelegatingPortObjectEncoder implements UntypedPortObje
         m_absorbingEncoder = new GenericAbsorbingEncoder<>(typedConverter);
         m_poClass = typedConverter.getPortObjectClass();
         m_specClass = typedConverter.getPortObjectSpecClass();
+        m_supportedRepresentations = List.copyOf(typedConverter.getSupportedRepresentations());
+        m_specCache =
+            typedConverter.isSpecEncodingPure() && SPEC_CACHE_SIZE > 0 ? new LruCache<>(SPEC_CACHE_SIZE) : null;
     }
 
     /**
-     * Converts a {@link PortObjectSpec} into a {@link PortObjectSpecIntermediateRepresentation}.
+     * Converts a {@link PortObjectSpec} into a {@link PortObjectSpecIntermediateRepresentation}. If the encoder
+     * declares its spec encoding as {@link PortObjectEncoder#isSpecEncodingPure() pure}, the representations of
+     * recently encoded specs are cached and returned for equal specs.
      *
      * @param spec the spec to convert
      * @param context in which the conversion happens
@@ -90,11 +121,26 @@ public final class UntypedDelegatingPortObjectEncoder implements UntypedPortObje
      */
     public PortObjectSpecIntermediateRepresentation encodePortObjectSpec(final PortObjectSpec spec,
         final PortObjectSpecConversionContext context) {
-        return m_absorbingEncoder.encodePortObjectSpec(spec, context);
+        if (m_specCache == null || spec == null) {
+            return m_absorbingEncoder.encodePortObjectSpec(spec, context);
+        }
+        return m_specCache.computeIfAbsent(spec, s -> m_absorbingEncoder.encodePortObjectSpec(s, context));
+    }
+
+    /**
+     * @return the statistics of the spec cache or empty if the encoder's specs are not cached
+     */
+    public Optional<CacheStatistics> getSpecCacheStatistics() {
+        return Optional.ofNullable(m_specCache).map(LruCache::getStatistics);
     }
 
     /**
-     * Converts a {@link PortObject} into a {@link PortObjectIntermediateRepresentation}.
+     * Converts a {@link PortObject} into a {@link PortObjectIntermediateRepresentation}. If the encoder
+     * {@link PortObjectEncoder#estimatePortObjectSize(PortObject) estimates} the size of the payload, the size is
+     * reserved with the {@link ConversionMemoryGovernor#getDefault() shared memory governor} while the encoder runs.
+     * If the context declares that the transfer is {@link PortObjectConversionContext#isTransferAcknowledged()
+     * acknowledged}, the reservation is held until the returned representation has been transferred or discarded, see
+     * {@link TransferAcknowledgements}.
      *
      * @param portObject the PortObject to convert
      * @param context in which the conversion happens
@@ -102,7 +148,160 @@ public final class UntypedDelegatingPortObjectEncoder implements UntypedPortObje
      */
     public PortObjectIntermediateRepresentation encodePortObject(final PortObject portObject,
         final PortObjectConversionContext context) {
-        return m_absorbingEncoder.encodePortObject(portObject, context);
+        // without negotiation it is unknown whether the receiving side can read files, so the conversion can't spill
+        return encode(portObject, context, false);
+    }
+
+    /**
+     * Converts a {@link PortObject} into a {@link PortObjectIntermediateRepresentation} of the given kind. Never
+     * spills, see {@link #encodePortObject(PortObject, PortObjectConversionContext, IntermediateRepresentationKind,
+     * boolean)}.
+     *
+     * @param portObject the PortObject to convert
+     * @param context in which the conversion happens
+     * @param representation the negotiated kind of intermediate representation
+     * @return the {@link PortObjectIntermediateRepresentation} representing the port object
+     * @throws IllegalStateException if the converter produced a different kind of representation
+     */
+    public PortObjectIntermediateRepresentation encodePortObject(final PortObject portObject,
+        final PortObjectConversionContext context, final IntermediateRepresentationKind representation) {
+        return encodePortObject(portObject, context, representation, false);
+    }
+
+    /**
+     * Converts a {@link PortObject} into a {@link PortObjectIntermediateRepresentation} of the given kind. The memory
+     * for the payload is reserved as in {@link #encodePortObject(PortObject, PortObjectConversionContext)}. If the
+     * governor asks to spill and the receiving side can read {@link IntermediateRepresentationKind#FILE file}
+     * representations, encoders that support them are asked to produce one instead of the negotiated kind.
+     *
+     * @param portObject the PortObject to convert
+     * @param context in which the conversion happens
+     * @param representation the negotiated kind of intermediate representation
+     * @param spillable whether the transport and the Python implementation support file representations, see
+     *            {@link org.knime.python3.types.port.PythonPortObjectConverterExtension#supportsSpilling(
+     *            java.util.Collection)}
+     * @return the {@link PortObjectIntermediateRepresentation} representing the port object
+     * @throws IllegalStateException if the converter produced a different kind of representation
+     */
+    public PortObjectIntermediateRepresentation encodePortObject(final PortObject portObject,
+        final PortObjectConversionContext context, final IntermediateRepresentationKind representation,
+        final boolean spillable) {
+        final var spill = spillable && m_supportedRepresentations.contains(IntermediateRepresentationKind.FILE);
+        var result = encode(portObject, new NegotiatedPortObjectConversionContext(context, representation), spill);
+        var resultKind = IntermediateRepresentationKind.of(result).orElse(null);
+        if (resultKind != representation && resultKind != IntermediateRepresentationKind.EMPTY
+            && !(spill && resultKind == IntermediateRepresentationKind.FILE)) {
+            throw new IllegalStateException(
+                "The converter for %s produced a %s representation instead of the negotiated %s."
+                    .formatted(m_poClass.getName(), resultKind, representation));
+        }
+        return result;
+    }
+
+    private PortObjectIntermediateRepresentation encode(final PortObject portObject,
+        final PortObjectConversionContext context, final boolean spillable) {
+        final var estimatedSize = m_absorbingEncoder.estimatePortObjectSize(portObject);
+        if (estimatedSize < 0) {
+            return m_absorbingEncoder.encodePortObject(portObject, context);
+        }
+        final var reservation = ConversionMemoryGovernor.getDefault().reserveForConversion(estimatedSize, spillable);
+        final PortObjectIntermediateRepresentation result;
+        try {
+            final var effectiveContext = reservation.isSpillRequested()
+                ? new NegotiatedPortObjectConversionContext(context, IntermediateRepresentationKind.FILE) : context;
+            result = m_absorbingEncoder.encodePortObject(portObject, effectiveContext);
+        } catch (RuntimeException | Error ex) { // NOSONAR rethrown
+            reservation.close();
+            throw ex;
+        }
+        if (reservation.isSpillRequested() || result == JavaEmptyIntermediateRepresentation.INSTANCE
+            || !context.isTransferAcknowledged()) {
+            // nothing is held in memory or nobody would release the reservation before garbage collection
+            reservation.close();
+        } else {
+            TransferAcknowledgements.onRelease(result, reservation::close);
+        }
+        return result;
+    }
+
+    /**
+     * Converts a {@link PortObjectSpec} on the {@link ConversionScheduler#getDefault() shared scheduler} with
+     * {@link Priority#INTERACTIVE interactive} priority.
+     *
+     * @param spec the spec to convert
+     * @param context in which the conversion happens
+     * @return a future of the {@link PortObjectSpecIntermediateRepresentation} representing the spec
+     */
+    public CompletableFuture<PortObjectSpecIntermediateRepresentation> encodePortObjectSpecAsync(
+        final PortObjectSpec spec, final PortObjectSpecConversionContext context) {
+        return ConversionScheduler.getDefault().submit(Priority.INTERACTIVE, () -> encodePortObjectSpec(spec, context));
+    }
+
+    /**
+     * Converts a {@link PortObject} on the {@link ConversionScheduler#getDefault() shared scheduler}.
+     *
+     * @param portObject the PortObject to convert
+     * @param context in which the conversion happens
+     * @return a future of the {@link PortObjectIntermediateRepresentation} representing the port object
+     */
+    public CompletableFuture<PortObjectIntermediateRepresentation> encodePortObjectAsync(final PortObject portObject,
+        final PortObjectConversionContext context) {
+        return ConversionScheduler.getDefault().submit(Priority.BULK, () -> encodePortObject(portObject, context));
+    }
+
+    /**
+     * @param portObject the port object that will be encoded
+     * @return the fingerprint of the port object's content or empty if the encoder doesn't compute one
+     * @see PortObjectEncoder#getContentFingerprint(PortObject)
+     */
+    public Optional<String> getContentFingerprint(final PortObject portObject) {
+        return m_absorbingEncoder.getContentFingerprint(portObject);
+    }
+
+    /**
+     * @return a port object to warm up the conversion with or empty if the encoder doesn't provide one
+     * @see PortObjectEncoder#createWarmUpPortObject()
+     */
+    public Optional<PortObject> createWarmUpPortObject() {
+        return m_absorbingEncoder.m_typedConverter.createWarmUpPortObject().map(PortObject.class::cast);
+    }
+
+    /**
+     * @return the class name of the wrapped encoder
+     */
+    String getEncoderClassName() {
+        return m_absorbingEncoder.m_typedConverter.getClass().getName();
+    }
+
+    /**
+     * @return the version of the bundle that contributes the wrapped encoder or empty if it isn't loaded by a bundle
+     */
+    Optional<String> getEncoderVersion() {
+        return Optional.ofNullable(FrameworkUtil.getBundle(m_absorbingEncoder.m_typedConverter.getClass()))
+            .map(bundle -> bundle.getVersion().toString());
+    }
+
+    /**
+     * @return true if the wrapped encoder is a {@link PortObjectDeltaEncoder}
+     */
+    public boolean supportsDeltaEncoding() {
+        return m_absorbingEncoder.supportsDeltaEncoding();
+    }
+
+    /**
+     * Computes the delta between two full representations of port objects.
+     *
+     * @param previous the full representation that was sent last for the port
+     * @param current the full representation of the current port object
+     * @param context in which the conversion happens
+     * @return the delta or empty if the full representation should be sent or the encoder doesn't support deltas
+     * @see PortObjectDeltaEncoder#encodeDelta(PortObjectIntermediateRepresentation,
+     *      PortObjectIntermediateRepresentation, PortObjectConversionContext)
+     */
+    public Optional<PortObjectIntermediateRepresentation> encodeDelta(
+        final PortObjectIntermediateRepresentation previous, final PortObjectIntermediateRepresentation current,
+        final PortObjectConversionContext context) {
+        return m_absorbingEncoder.encodeDelta(previous, current, context);
     }
 
     @Override
@@ -115,6 +314,11 @@ public final class UntypedDelegatingPortObjectEncoder implements UntypedPortObje
         return m_specClass;
     }
 
+    @Override
+    public List<IntermediateRepresentationKind> getSupportedRepresentations() {
+        return m_supportedRepresentations;
+    }
+
     private static final class GenericAbsorbingEncoder<O extends PortObject, S extends PortObjectSpec> {
         private final PortObjectEncoder<O, S> m_typedConverter;
 
@@ -130,6 +334,28 @@ public final class UntypedDelegatingPortObjectEncoder implements UntypedPortObje
             return m_typedConverter.encodePortObject((O)portObject, context);
         }
 
+        @SuppressWarnings("unchecked")
+        long estimatePortObjectSize(final PortObject portObject) {
+            return m_typedConverter.estimatePortObjectSize((O)portObject);
+        }
+
+        @SuppressWarnings("unchecked")
+        Optional<String> getContentFingerprint(final PortObject portObject) {
+            return m_typedConverter.getContentFingerprint((O)portObject);
+        }
+
+        boolean supportsDeltaEncoding() {
+            return m_typedConverter instanceof PortObjectDeltaEncoder;
+        }
+
+        Optional<PortObjectIntermediateRepresentation> encodeDelta(final PortObjectIntermediateRepresentation previous,
+            final PortObjectIntermediateRepresentation current, final PortObjectConversionContext context) {
+            if (m_typedConverter instanceof PortObjectDeltaEncoder<O, S> deltaEncoder) {
+                return deltaEncoder.encodeDelta(previous, current, context);
+            }
+            return Optional.empty();
+        }
+
         @SuppressWarnings("unchecked")
         PortObjectSpecIntermediateRepresentation encodePortObjectSpec(final PortObjectSpec spec,
             final PortObjectSpecConversionContext context) {
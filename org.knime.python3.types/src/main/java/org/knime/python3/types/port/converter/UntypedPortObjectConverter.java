@@ -48,8 +48,11 @@
  */
 package org.knime.python3.types.port.converter;
 
+import java.util.List;
+
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
 
 /**
  * Common interface for Untyped converters. Provides runtime information on the {@link PortObject} and
@@ -71,4 +74,10 @@ public interface UntypedPortObjectConverter {
      */
     Class<? extends PortObjectSpec> getPortObjectSpecClass();
 
+    /**
+     * @return the kinds of intermediate representations the converter supports for port objects in order of preference
+     * @see PortObjectConverter#getSupportedRepresentations()
+     */
+    List<IntermediateRepresentationKind> getSupportedRepresentations();
+
 }
@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.ir;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A buffer leased from a {@link DirectBufferPool}. The buffer must not be used after the lease has been released.
+ * Further holders of the buffer {@link #retain() retain} their own lease, and the buffer only goes back to the pool
+ * once all leases have been released.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class BufferLease implements AutoCloseable {
+
+    private final DirectBufferPool m_pool;
+
+    private final ByteBuffer m_buffer;
+
+    private final int m_sizeClass;
+
+    /** The number of unreleased leases of the buffer, shared by all of them. */
+    private final AtomicInteger m_leases;
+
+    private final AtomicBoolean m_released = new AtomicBoolean();
+
+    BufferLease(final DirectBufferPool pool, final ByteBuffer buffer, final int sizeClass) {
+        this(pool, buffer, sizeClass, new AtomicInteger(1));
+    }
+
+    private BufferLease(final DirectBufferPool pool, final ByteBuffer buffer, final int sizeClass,
+        final AtomicInteger leases) {
+        m_pool = pool;
+        m_buffer = buffer;
+        m_sizeClass = sizeClass;
+        m_leases = leases;
+    }
+
+    /**
+     * @return the leased buffer
+     * @throws IllegalStateException if the lease has already been released
+     */
+    public ByteBuffer getBuffer() {
+        if (m_released.get()) {
+            throw new IllegalStateException("The buffer lease has already been released.");
+        }
+        return m_buffer;
+    }
+
+    /**
+     * @return true if the lease has been released
+     */
+    public boolean isReleased() {
+        return m_released.get();
+    }
+
+    /**
+     * Creates another lease of the same buffer, which keeps the buffer out of the pool until it is released as well.
+     *
+     * @return the new lease
+     * @throws IllegalStateException if this lease has already been released
+     */
+    public BufferLease retain() {
+        if (m_released.get()) {
+            throw new IllegalStateException("The buffer lease has already been released.");
+        }
+        // can't race with the buffer going back to the pool because this lease is still held
+        m_leases.incrementAndGet();
+        return new BufferLease(m_pool, m_buffer, m_sizeClass, m_leases);
+    }
+
+    /**
+     * Releases this lease and returns the buffer to the pool if no other lease of it is held. Subsequent calls have
+     * no effect.
+     */
+    public void release() {
+        if (m_released.compareAndSet(false, true) && m_leases.decrementAndGet() == 0) {
+            m_pool.release(m_buffer, m_sizeClass);
+        }
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+}
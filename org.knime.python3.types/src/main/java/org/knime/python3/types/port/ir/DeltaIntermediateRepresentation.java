@@ -0,0 +1,94 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.ir;
+
+/**
+ * Wraps the intermediate representation of a port object that is sent repeatedly for the same port, e.g. in every
+ * iteration of a loop. The payload is either the full representation or a delta against the full representation of
+ * the previous revision of the same port, which the receiving side applies to the full representation it holds.
+ *
+ * Must be non-sealed because the Python side also implements it
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public non-sealed interface DeltaIntermediateRepresentation extends PortObjectIntermediateRepresentation {
+
+    /**
+     * Indicates that the payload is not a delta but the full representation.
+     */
+    long NO_BASE_REVISION = -1;
+
+    /**
+     * @return identifies the port for which the revisions are tracked
+     */
+    String getPortKey();
+
+    /**
+     * @return the revision of the port object represented by this intermediate representation
+     */
+    long getRevision();
+
+    /**
+     * @return the revision the delta has to be applied to or {@link #NO_BASE_REVISION} if the payload is the full
+     *         representation
+     */
+    long getBaseRevision();
+
+    /**
+     * @return true if the payload is a delta, false if it is the full representation
+     */
+    default boolean isDelta() {
+        return getBaseRevision() != NO_BASE_REVISION;
+    }
+
+    /**
+     * @return the delta or the full representation, see {@link #isDelta()}
+     */
+    PortObjectIntermediateRepresentation getPayload();
+}
@@ -0,0 +1,178 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.ir;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of reusable direct {@link ByteBuffer ByteBuffers} for the payloads of intermediate representations. Buffers are
+ * organized in size classes of powers of two between 4 KiB and 64 MiB, larger requests are served with unpooled
+ * buffers. Released buffers are retained up to a total of {@value #MAX_RETAINED_BYTES_PROPERTY} bytes (256 MiB by
+ * default) so that conversions in steady state don't allocate.
+ *
+ * Buffers are obtained via {@link org.knime.python3.types.port.converter.PortObjectSpecConversionContext#leaseBuffer
+ * the conversion context}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class DirectBufferPool {
+
+    /**
+     * The system property for the maximal number of bytes retained by the default pool.
+     */
+    public static final String MAX_RETAINED_BYTES_PROPERTY = "knime.python.types.bufferPoolSize";
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 12;
+
+    private static final int MAX_SIZE_CLASS_SHIFT = 26;
+
+    private static final DirectBufferPool DEFAULT =
+        new DirectBufferPool(Long.getLong(MAX_RETAINED_BYTES_PROPERTY, 256L << 20));
+
+    private final List<ConcurrentLinkedDeque<ByteBuffer>> m_free = new ArrayList<>();
+
+    private final long m_maxRetainedBytes;
+
+    private final AtomicLong m_retainedBytes = new AtomicLong();
+
+    private final LongAdder m_leases = new LongAdder();
+
+    private final LongAdder m_allocations = new LongAdder();
+
+    /**
+     * Statistics of a {@link DirectBufferPool}.
+     *
+     * @param leases the number of leased buffers
+     * @param allocations the number of buffers that had to be allocated, the others have been reused
+     * @param retainedBytes the number of bytes currently held by the pool for reuse
+     */
+    public record PoolStatistics(long leases, long allocations, long retainedBytes) {
+    }
+
+    /**
+     * @param maxRetainedBytes the maximal number of bytes of released buffers that are kept for reuse
+     */
+    public DirectBufferPool(final long maxRetainedBytes) {
+        m_maxRetainedBytes = maxRetainedBytes;
+        for (int shift = MIN_SIZE_CLASS_SHIFT; shift <= MAX_SIZE_CLASS_SHIFT; shift++) {
+            m_free.add(new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    /**
+     * @return the pool that is used by the conversion contexts
+     */
+    public static DirectBufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Leases a buffer with a position of 0, a limit of the requested size and big-endian byte order. Its capacity may
+     * be larger than requested.
+     *
+     * @param size the number of bytes that are needed
+     * @return the lease, which must be {@link BufferLease#release() released} once the buffer is no longer needed
+     */
+    public BufferLease lease(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative buffer size: " + size);
+        }
+        m_leases.increment();
+        final var sizeClass = getSizeClass(size);
+        if (sizeClass < 0) {
+            m_allocations.increment();
+            return new BufferLease(this, ByteBuffer.allocateDirect(size), sizeClass);
+        }
+        var buffer = m_free.get(sizeClass).pollFirst();
+        if (buffer == null) {
+            m_allocations.increment();
+            buffer = ByteBuffer.allocateDirect(1 << (sizeClass + MIN_SIZE_CLASS_SHIFT));
+        } else {
+            m_retainedBytes.addAndGet(-buffer.capacity());
+        }
+        buffer.clear().limit(size);
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        return new BufferLease(this, buffer, sizeClass);
+    }
+
+    /**
+     * @return the index of the size class or -1 if the size exceeds the largest class
+     */
+    private static int getSizeClass(final int size) {
+        final var shift = Math.max(MIN_SIZE_CLASS_SHIFT, 32 - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1));
+        return shift > MAX_SIZE_CLASS_SHIFT ? -1 : (shift - MIN_SIZE_CLASS_SHIFT);
+    }
+
+    void release(final ByteBuffer buffer, final int sizeClass) {
+        if (sizeClass < 0) {
+            return;
+        }
+        if (m_retainedBytes.addAndGet(buffer.capacity()) > m_maxRetainedBytes) {
+            // the pool is full, leave the buffer to the garbage collector
+            m_retainedBytes.addAndGet(-buffer.capacity());
+            return;
+        }
+        // LIFO so that recently used (and likely cached) buffers are reused first
+        m_free.get(sizeClass).offerFirst(buffer);
+    }
+
+    /**
+     * @return the statistics of the pool
+     */
+    public PoolStatistics getStatistics() {
+        return new PoolStatistics(m_leases.sum(), m_allocations.sum(), m_retainedBytes.get());
+    }
+}
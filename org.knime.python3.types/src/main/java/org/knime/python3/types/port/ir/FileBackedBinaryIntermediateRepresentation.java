@@ -0,0 +1,32 @@
+package org.knime.python3.types.port.ir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * BinaryIntermediateRepresentation whose payload is stored in a file.
+ */
+public final class FileBackedBinaryIntermediateRepresentation
+    implements BinaryIntermediateRepresentation, FileBackedPayload {
+    private final Path m_path;
+
+    public FileBackedBinaryIntermediateRepresentation(final Path path) {
+        m_path = path;
+    }
+
+    @Override
+    public byte[] getBinaryRepresentation() {
+        try {
+            return Files.readAllBytes(m_path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public Path getPayloadPath() {
+        return m_path;
+    }
+}
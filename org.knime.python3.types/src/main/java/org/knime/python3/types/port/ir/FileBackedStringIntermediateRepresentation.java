@@ -0,0 +1,32 @@
+package org.knime.python3.types.port.ir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * StringIntermediateRepresentation whose UTF-8 encoded payload is stored in a file.
+ */
+public final class FileBackedStringIntermediateRepresentation
+    implements StringIntermediateRepresentation, FileBackedPayload {
+    private final Path m_path;
+
+    public FileBackedStringIntermediateRepresentation(final Path path) {
+        m_path = path;
+    }
+
+    @Override
+    public String getStringRepresentation() {
+        try {
+            return Files.readString(m_path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public Path getPayloadPath() {
+        return m_path;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.ir;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The kinds of {@link IntermediateRepresentation IntermediateRepresentations} that can be transferred between KNIME and
+ * Python. Converters declare the kinds they support in order of preference and the framework picks the first one that
+ * is also supported by the transport and the Python implementation of the converter.
+ *
+ * {@link #isWrapper() Wrapping} kinds such as {@link #DELTA} and {@link #SHARED} wrap the representation of another
+ * kind. They are never picked as the kind a converter produces but used in addition if the transport and the Python
+ * implementation both {@link #supports(IntermediateRepresentationKind, Collection...) support} them.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public enum IntermediateRepresentationKind {
+
+        /** {@link EmptyIntermediateRepresentation} */
+        EMPTY(EmptyIntermediateRepresentation.class),
+        /** {@link StringIntermediateRepresentation} */
+        STRING(StringIntermediateRepresentation.class),
+        /** {@link BinaryIntermediateRepresentation} */
+        BINARY(BinaryIntermediateRepresentation.class),
+        /** {@link FileIntermediateRepresentation} */
+        FILE(FileIntermediateRepresentation.class),
+        /** {@link SegmentedIntermediateRepresentation} */
+        SEGMENTED(SegmentedIntermediateRepresentation.class),
+        /** {@link MultipartIntermediateRepresentation} */
+        MULTIPART(MultipartIntermediateRepresentation.class),
+        /** {@link DeltaIntermediateRepresentation}, wraps the representation of another kind */
+        DELTA(DeltaIntermediateRepresentation.class, true),
+        /** {@link SharedIntermediateRepresentation}, wraps the representation of another kind */
+        SHARED(SharedIntermediateRepresentation.class, true);
+
+    /**
+     * The kinds that every Python implementation understands, i.e. the kinds that existed before the negotiation was
+     * introduced. Used for Python implementations that don't declare which kinds they support.
+     */
+    public static final Set<IntermediateRepresentationKind> LEGACY = Set.of(EMPTY, STRING);
+
+    private final Class<? extends IntermediateRepresentation> m_representationClass;
+
+    private final boolean m_wrapper;
+
+    IntermediateRepresentationKind(final Class<? extends IntermediateRepresentation> representationClass) {
+        this(representationClass, false);
+    }
+
+    IntermediateRepresentationKind(final Class<? extends IntermediateRepresentation> representationClass,
+        final boolean wrapper) {
+        m_representationClass = representationClass;
+        m_wrapper = wrapper;
+    }
+
+    /**
+     * @return the interface implemented by intermediate representations of this kind
+     */
+    public Class<? extends IntermediateRepresentation> getRepresentationClass() {
+        return m_representationClass;
+    }
+
+    /**
+     * @return true if representations of this kind wrap the representation of another kind
+     */
+    public boolean isWrapper() {
+        return m_wrapper;
+    }
+
+    /**
+     * @param representation an intermediate representation
+     * @return the kind of the representation or empty if it doesn't implement any of the known kinds
+     */
+    public static Optional<IntermediateRepresentationKind> of(final IntermediateRepresentation representation) {
+        return Arrays.stream(values()) //
+            .filter(k -> k.m_representationClass.isInstance(representation)) //
+            .findFirst();
+    }
+
+    /**
+     * Parses a comma-separated list of kinds as used in the extension point, e.g. "binary, string".
+     *
+     * @param kinds comma-separated kind names (case-insensitive)
+     * @return the parsed kinds in the order of the list
+     * @throws IllegalArgumentException if the list contains an unknown kind
+     */
+    public static List<IntermediateRepresentationKind> parseList(final String kinds) {
+        return Arrays.stream(kinds.split(",")) //
+            .map(String::trim) //
+            .filter(s -> !s.isEmpty()) //
+            .map(s -> IntermediateRepresentationKind.valueOf(s.toUpperCase(Locale.ROOT))) //
+            .toList();
+    }
+
+    /**
+     * Picks the first kind in the preferences that is contained in all of the given sets of supported kinds.
+     * {@link #isWrapper() Wrapping} kinds are never picked.
+     *
+     * @param preferences the kinds supported by a converter in order of preference
+     * @param supported the kinds supported by the other participants (e.g. the transport and the Python side)
+     * @return the negotiated kind or empty if there is no kind that is supported by all participants
+     */
+    @SafeVarargs
+    public static Optional<IntermediateRepresentationKind> negotiate(
+        final List<IntermediateRepresentationKind> preferences,
+        final Collection<IntermediateRepresentationKind>... supported) {
+        return preferences.stream() //
+            .filter(k -> !k.isWrapper() && supports(k, supported)) //
+            .findFirst();
+    }
+
+    /**
+     * Checks whether all participants support a kind, e.g. a {@link #isWrapper() wrapping} kind.
+     *
+     * @param kind the kind to check
+     * @param supported the kinds supported by the participants (e.g. the transport and the Python side)
+     * @return true if the kind is contained in all of the given sets of supported kinds
+     */
+    @SafeVarargs
+    public static boolean supports(final IntermediateRepresentationKind kind,
+        final Collection<IntermediateRepresentationKind>... supported) {
+        for (var participant : supported) {
+            if (!participant.contains(kind)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
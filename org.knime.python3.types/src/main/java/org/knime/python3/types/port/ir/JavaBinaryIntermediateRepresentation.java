@@ -0,0 +1,17 @@
+package org.knime.python3.types.port.ir;
+
+/**
+ * Concrete implementation of BinaryIntermediateRepresentation for Java.
+ */
+public final class JavaBinaryIntermediateRepresentation implements BinaryIntermediateRepresentation {
+    private final byte[] m_representation;
+
+    public JavaBinaryIntermediateRepresentation(final byte[] representation) {
+        m_representation = representation;
+    }
+
+    @Override
+    public byte[] getBinaryRepresentation() {
+        return m_representation;
+    }
+}
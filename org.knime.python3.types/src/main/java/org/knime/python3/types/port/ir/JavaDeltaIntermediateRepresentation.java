@@ -0,0 +1,42 @@
+package org.knime.python3.types.port.ir;
+
+/**
+ * Concrete implementation of DeltaIntermediateRepresentation for Java.
+ */
+public final class JavaDeltaIntermediateRepresentation implements DeltaIntermediateRepresentation {
+    private final String m_portKey;
+
+    private final long m_revision;
+
+    private final long m_baseRevision;
+
+    private final PortObjectIntermediateRepresentation m_payload;
+
+    public JavaDeltaIntermediateRepresentation(final String portKey, final long revision, final long baseRevision,
+        final PortObjectIntermediateRepresentation payload) {
+        m_portKey = portKey;
+        m_revision = revision;
+        m_baseRevision = baseRevision;
+        m_payload = payload;
+    }
+
+    @Override
+    public String getPortKey() {
+        return m_portKey;
+    }
+
+    @Override
+    public long getRevision() {
+        return m_revision;
+    }
+
+    @Override
+    public long getBaseRevision() {
+        return m_baseRevision;
+    }
+
+    @Override
+    public PortObjectIntermediateRepresentation getPayload() {
+        return m_payload;
+    }
+}
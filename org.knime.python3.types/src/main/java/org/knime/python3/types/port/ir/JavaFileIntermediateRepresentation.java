@@ -0,0 +1,19 @@
+package org.knime.python3.types.port.ir;
+
+import java.nio.file.Path;
+
+/**
+ * Concrete implementation of FileIntermediateRepresentation for Java.
+ */
+public final class JavaFileIntermediateRepresentation implements FileIntermediateRepresentation {
+    private final Path m_path;
+
+    public JavaFileIntermediateRepresentation(final Path path) {
+        m_path = path;
+    }
+
+    @Override
+    public String getFilePath() {
+        return m_path.toAbsolutePath().toString();
+    }
+}
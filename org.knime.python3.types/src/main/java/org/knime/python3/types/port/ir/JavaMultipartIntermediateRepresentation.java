@@ -0,0 +1,115 @@
+package org.knime.python3.types.port.ir;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Concrete implementation of MultipartIntermediateRepresentation for Java. Created via a {@link Builder}.
+ */
+public final class JavaMultipartIntermediateRepresentation implements MultipartIntermediateRepresentation {
+
+    /**
+     * The kinds of representations that parts can have.
+     */
+    public static final Set<IntermediateRepresentationKind> PART_KINDS = Set.copyOf(EnumSet.of(
+        IntermediateRepresentationKind.STRING, IntermediateRepresentationKind.BINARY,
+        IntermediateRepresentationKind.FILE));
+
+    private final Map<String, PortObjectIntermediateRepresentation> m_parts;
+
+    private final List<String> m_partNames;
+
+    private JavaMultipartIntermediateRepresentation(final Map<String, PortObjectIntermediateRepresentation> parts) {
+        m_parts = parts;
+        m_partNames = List.copyOf(parts.keySet());
+    }
+
+    /**
+     * @return a builder without parts
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public List<String> getPartNames() {
+        return m_partNames;
+    }
+
+    @Override
+    public PortObjectIntermediateRepresentation getPart(final String name) {
+        final var part = m_parts.get(name);
+        if (part == null) {
+            throw new NoSuchElementException("There is no part named '" + name + "'.");
+        }
+        return part;
+    }
+
+    /**
+     * Collects the parts of a {@link JavaMultipartIntermediateRepresentation}.
+     */
+    public static final class Builder {
+
+        private final Map<String, PortObjectIntermediateRepresentation> m_parts = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * @param name of the part
+         * @param content of the part
+         * @return this builder
+         */
+        public Builder addString(final String name, final String content) {
+            return addPart(name, new JavaStringIntermediateRepresentation(content));
+        }
+
+        /**
+         * @param name of the part
+         * @param content of the part
+         * @return this builder
+         */
+        public Builder addBinary(final String name, final byte[] content) {
+            return addPart(name, new JavaBinaryIntermediateRepresentation(content));
+        }
+
+        /**
+         * @param name of the part
+         * @param file that contains the part, only the path is transferred
+         * @return this builder
+         */
+        public Builder addFile(final String name, final Path file) {
+            return addPart(name, new JavaFileIntermediateRepresentation(file));
+        }
+
+        /**
+         * @param name of the part
+         * @param part the representation of the part, one of the {@link #PART_KINDS}
+         * @return this builder
+         * @throws IllegalArgumentException if the name is already used or the part has an unsupported kind
+         */
+        public Builder addPart(final String name, final PortObjectIntermediateRepresentation part) {
+            final var kind = IntermediateRepresentationKind.of(part).orElse(null);
+            if (!PART_KINDS.contains(kind)) {
+                throw new IllegalArgumentException("Parts must be one of " + PART_KINDS + " but '" + name + "' is "
+                    + (kind == null ? part.getClass().getName() : kind) + ".");
+            }
+            if (m_parts.putIfAbsent(name, part) != null) {
+                throw new IllegalArgumentException("There already is a part named '" + name + "'.");
+            }
+            return this;
+        }
+
+        /**
+         * @return the representation of the added parts
+         */
+        public JavaMultipartIntermediateRepresentation build() {
+            return new JavaMultipartIntermediateRepresentation(new LinkedHashMap<>(m_parts));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.knime.python3.types.port.ir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * Concrete implementation of ReadableBinaryIntermediateRepresentation for Java. The content is kept once it has been
+ * {@link #getBinaryRepresentation() materialized}, so decoders can read it repeatedly.
+ */
+public final class JavaReadableBinaryIntermediateRepresentation implements ReadableBinaryIntermediateRepresentation {
+    private final InputStream m_stream;
+
+    // the following fields are guarded by this
+
+    private boolean m_opened;
+
+    private byte[] m_content;
+
+    public JavaReadableBinaryIntermediateRepresentation(final InputStream stream) {
+        m_stream = stream;
+    }
+
+    @Override
+    public synchronized InputStream openInputStream() {
+        if (m_content != null) {
+            return new ByteArrayInputStream(m_content);
+        }
+        if (m_opened) {
+            throw new IllegalStateException("The content has already been read.");
+        }
+        m_opened = true;
+        return m_stream;
+    }
+
+    @Override
+    public synchronized byte[] getBinaryRepresentation() {
+        if (m_content == null) {
+            m_content = ReadableBinaryIntermediateRepresentation.super.getBinaryRepresentation();
+        }
+        return m_content;
+    }
+}
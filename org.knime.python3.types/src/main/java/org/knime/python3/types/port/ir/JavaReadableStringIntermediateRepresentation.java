@@ -0,0 +1,46 @@
+package org.knime.python3.types.port.ir;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Concrete implementation of ReadableStringIntermediateRepresentation for Java that decodes a UTF-8 encoded stream.
+ * The content is kept once it has been {@link #getStringRepresentation() materialized}, so decoders can read it
+ * repeatedly, e.g. to validate it before parsing it.
+ */
+public final class JavaReadableStringIntermediateRepresentation implements ReadableStringIntermediateRepresentation {
+    private final InputStream m_stream;
+
+    // the following fields are guarded by this
+
+    private boolean m_opened;
+
+    private String m_content;
+
+    public JavaReadableStringIntermediateRepresentation(final InputStream stream) {
+        m_stream = stream;
+    }
+
+    @Override
+    public synchronized Reader openReader() {
+        if (m_content != null) {
+            return new StringReader(m_content);
+        }
+        if (m_opened) {
+            throw new IllegalStateException("The content has already been read.");
+        }
+        m_opened = true;
+        return new InputStreamReader(m_stream, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized String getStringRepresentation() {
+        if (m_content == null) {
+            m_content = ReadableStringIntermediateRepresentation.super.getStringRepresentation();
+        }
+        return m_content;
+    }
+}
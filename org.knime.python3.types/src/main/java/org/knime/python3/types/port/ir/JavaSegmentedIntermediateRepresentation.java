@@ -0,0 +1,268 @@
+package org.knime.python3.types.port.ir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Concrete implementation of SegmentedIntermediateRepresentation for Java. Created via a {@link Builder}.
+ */
+public final class JavaSegmentedIntermediateRepresentation implements SegmentedIntermediateRepresentation {
+
+    /**
+     * The size of the segments if no other size is given, 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+
+    /**
+     * The minimal size of the segments, the length of the longest UTF-8 encoded character.
+     */
+    public static final int MIN_SEGMENT_SIZE = 4;
+
+    private static final int INITIAL_SEGMENT_CAPACITY = 1 << 13;
+
+    private final List<byte[]> m_segments;
+
+    private final long[] m_offsets;
+
+    private final long m_size;
+
+    private JavaSegmentedIntermediateRepresentation(final List<byte[]> segments) {
+        m_segments = List.copyOf(segments);
+        m_offsets = new long[m_segments.size()];
+        long offset = 0;
+        for (int i = 0; i < m_offsets.length; i++) {
+            m_offsets[i] = offset;
+            offset += m_segments.get(i).length;
+        }
+        m_size = offset;
+    }
+
+    /**
+     * @return a builder with segments of {@link #DEFAULT_SEGMENT_SIZE}
+     */
+    public static Builder builder() {
+        return new Builder(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param segmentSize the maximal size of the segments in bytes, at least {@link #MIN_SEGMENT_SIZE}
+     * @return a builder with segments of the given size
+     */
+    public static Builder builder(final int segmentSize) {
+        return new Builder(segmentSize);
+    }
+
+    @Override
+    public long getSize() {
+        return m_size;
+    }
+
+    @Override
+    public int getSegmentCount() {
+        return m_segments.size();
+    }
+
+    @Override
+    public long getSegmentOffset(final int index) {
+        return m_offsets[index];
+    }
+
+    @Override
+    public byte[] getSegment(final int index) {
+        return m_segments.get(index);
+    }
+
+    @Override
+    public byte[] read(final long offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, m_size);
+        final var result = new byte[length];
+        // the last segment that starts at or before the offset
+        var index = Arrays.binarySearch(m_offsets, offset);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        var copied = 0;
+        while (copied < length) {
+            final var segment = m_segments.get(index);
+            final var start = (int)(offset + copied - m_offsets[index]);
+            final var count = Math.min(segment.length - start, length - copied);
+            System.arraycopy(segment, start, result, copied, count);
+            copied += count;
+            index++;
+        }
+        return result;
+    }
+
+    /**
+     * Collects a payload in segments of bounded size. Bytes can also be written to it as {@link OutputStream}, closing
+     * it has no effect. Not thread-safe.
+     */
+    public static final class Builder extends OutputStream {
+
+        private final int m_segmentSize;
+
+        private final List<byte[]> m_segments = new ArrayList<>();
+
+        private byte[] m_current;
+
+        private int m_position;
+
+        private boolean m_built;
+
+        private Builder(final int segmentSize) {
+            if (segmentSize < MIN_SEGMENT_SIZE) {
+                throw new IllegalArgumentException(
+                    "The segment size must be at least " + MIN_SEGMENT_SIZE + " bytes: " + segmentSize);
+            }
+            m_segmentSize = segmentSize;
+        }
+
+        @Override
+        public void write(final int b) {
+            ensureCapacity();
+            m_current[m_position++] = (byte)b;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            var offset = off;
+            var remaining = len;
+            while (remaining > 0) {
+                ensureCapacity();
+                final var count = Math.min(remaining, m_current.length - m_position);
+                System.arraycopy(b, offset, m_current, m_position, count);
+                m_position += count;
+                offset += count;
+                remaining -= count;
+            }
+        }
+
+        /**
+         * Appends the remaining bytes of the buffer.
+         *
+         * @param buffer the bytes to append
+         * @return this builder
+         */
+        public Builder append(final ByteBuffer buffer) {
+            while (buffer.hasRemaining()) {
+                ensureCapacity();
+                final var count = Math.min(buffer.remaining(), m_current.length - m_position);
+                buffer.get(m_current, m_position, count);
+                m_position += count;
+            }
+            return this;
+        }
+
+        /**
+         * Appends the UTF-8 encoding of the characters without creating a copy of the whole text.
+         *
+         * @param text the characters to append
+         * @return this builder
+         */
+        public Builder append(final CharSequence text) {
+            final var encoder = StandardCharsets.UTF_8.newEncoder();
+            encode(encoder, CharBuffer.wrap(text), true);
+            return this;
+        }
+
+        /**
+         * @return a writer that appends the UTF-8 encoding of the written characters, e.g. for JSON generators
+         */
+        public Writer asWriter() {
+            final var encoder = StandardCharsets.UTF_8.newEncoder();
+            return new Writer() {
+                @Override
+                public void write(final char[] cbuf, final int off, final int len) {
+                    encode(encoder, CharBuffer.wrap(cbuf, off, len), false);
+                }
+
+                @Override
+                public void flush() {
+                    // the bytes are appended immediately
+                }
+
+                @Override
+                public void close() {
+                    // fails if the text ends with an unpaired surrogate
+                    encode(encoder, CharBuffer.allocate(0), true);
+                }
+            };
+        }
+
+        private void encode(final CharsetEncoder encoder, final CharBuffer chars, final boolean endOfInput) {
+            while (true) {
+                ensureCapacity();
+                final var out = ByteBuffer.wrap(m_current, m_position, m_current.length - m_position);
+                final var result = encoder.encode(chars, out, endOfInput);
+                m_position = out.position();
+                if (result.isError()) {
+                    throwUnchecked(result);
+                }
+                if (!result.isOverflow()) {
+                    return;
+                }
+                if (m_current.length < m_segmentSize) {
+                    grow();
+                } else {
+                    // the next character doesn't fit, its bytes start the next segment
+                    m_segments.add(Arrays.copyOf(m_current, m_position));
+                    m_current = null;
+                }
+            }
+        }
+
+        private static void throwUnchecked(final CoderResult result) {
+            try {
+                result.throwException();
+            } catch (IOException ex) {
+                throw new IllegalArgumentException("The text can't be encoded as UTF-8.", ex);
+            }
+        }
+
+        private void ensureCapacity() {
+            if (m_built) {
+                throw new IllegalStateException("The representation has already been built.");
+            }
+            if (m_current != null && m_position == m_current.length) {
+                if (m_current.length < m_segmentSize) {
+                    grow();
+                } else {
+                    m_segments.add(m_current);
+                    m_current = null;
+                }
+            }
+            if (m_current == null) {
+                // small payloads don't allocate a whole segment
+                m_current = new byte[Math.min(m_segmentSize, INITIAL_SEGMENT_CAPACITY)];
+                m_position = 0;
+            }
+        }
+
+        private void grow() {
+            m_current = Arrays.copyOf(m_current, (int)Math.min(m_segmentSize, 2L * m_current.length));
+        }
+
+        /**
+         * @return the representation of the appended bytes
+         */
+        public JavaSegmentedIntermediateRepresentation build() {
+            if (m_current != null && m_position > 0) {
+                m_segments.add(m_position == m_current.length ? m_current : Arrays.copyOf(m_current, m_position));
+            }
+            m_current = null;
+            m_built = true;
+            return new JavaSegmentedIntermediateRepresentation(m_segments);
+        }
+    }
+}
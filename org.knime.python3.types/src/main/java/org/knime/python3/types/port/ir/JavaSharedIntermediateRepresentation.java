@@ -0,0 +1,52 @@
+package org.knime.python3.types.port.ir;
+
+/**
+ * Concrete implementation of SharedIntermediateRepresentation for Java.
+ */
+public final class JavaSharedIntermediateRepresentation implements SharedIntermediateRepresentation {
+    private final String m_shareKey;
+
+    private final boolean m_reference;
+
+    private final PortObjectIntermediateRepresentation m_payload;
+
+    private JavaSharedIntermediateRepresentation(final String shareKey, final boolean reference,
+        final PortObjectIntermediateRepresentation payload) {
+        m_shareKey = shareKey;
+        m_reference = reference;
+        m_payload = payload;
+    }
+
+    /**
+     * @param shareKey identifies the port object
+     * @param payload the full representation
+     * @return the first occurrence of the port object
+     */
+    public static JavaSharedIntermediateRepresentation full(final String shareKey,
+        final PortObjectIntermediateRepresentation payload) {
+        return new JavaSharedIntermediateRepresentation(shareKey, false, payload);
+    }
+
+    /**
+     * @param shareKey identifies the port object
+     * @return a reference to a port object that has already been sent
+     */
+    public static JavaSharedIntermediateRepresentation reference(final String shareKey) {
+        return new JavaSharedIntermediateRepresentation(shareKey, true, JavaEmptyIntermediateRepresentation.INSTANCE);
+    }
+
+    @Override
+    public String getShareKey() {
+        return m_shareKey;
+    }
+
+    @Override
+    public boolean isReference() {
+        return m_reference;
+    }
+
+    @Override
+    public PortObjectIntermediateRepresentation getPayload() {
+        return m_payload;
+    }
+}
@@ -0,0 +1,67 @@
+package org.knime.python3.types.port.ir;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of BinaryIntermediateRepresentation for Java whose payload lives in a buffer leased from a
+ * {@link DirectBufferPool}. The payload is the content of the buffer between 0 and its position at construction time.
+ * The transport reads the payload via {@link #getBinaryBuffer()} without copying and calls {@link #acknowledge()} once
+ * it has been transferred, which returns the buffer to the pool.
+ */
+public final class PooledBinaryIntermediateRepresentation implements BinaryIntermediateRepresentation {
+    private final BufferLease m_lease;
+
+    private final ByteBuffer m_payload;
+
+    /**
+     * @param lease whose buffer holds the payload from 0 to its current position
+     */
+    public PooledBinaryIntermediateRepresentation(final BufferLease lease) {
+        this(lease, lease.getBuffer().duplicate().flip().asReadOnlyBuffer());
+    }
+
+    private PooledBinaryIntermediateRepresentation(final BufferLease lease, final ByteBuffer payload) {
+        m_lease = lease;
+        m_payload = payload;
+    }
+
+    /**
+     * Copies the payload into a new array. Prefer {@link #getBinaryBuffer()}.
+     */
+    @Override
+    public byte[] getBinaryRepresentation() {
+        var bytes = new byte[m_payload.remaining()];
+        getBinaryBuffer().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * @return a read-only view of the payload
+     * @throws IllegalStateException if the representation has already been acknowledged
+     */
+    public ByteBuffer getBinaryBuffer() {
+        if (m_lease.isReleased()) {
+            throw new IllegalStateException("The representation has already been acknowledged.");
+        }
+        return m_payload.duplicate();
+    }
+
+    /**
+     * Creates a representation of the same payload with its own {@link BufferLease#retain() lease}, for holders that
+     * need the payload after this representation has been acknowledged.
+     *
+     * @return the new representation, which has to be acknowledged separately
+     * @throws IllegalStateException if the representation has already been acknowledged
+     */
+    public PooledBinaryIntermediateRepresentation retain() {
+        return new PooledBinaryIntermediateRepresentation(m_lease.retain(), m_payload);
+    }
+
+    /**
+     * Signals that the representation has been transferred and returns its buffer to the pool unless it has been
+     * {@link #retain() retained}. The representation must not be used afterwards.
+     */
+    public void acknowledge() {
+        m_lease.release();
+    }
+}
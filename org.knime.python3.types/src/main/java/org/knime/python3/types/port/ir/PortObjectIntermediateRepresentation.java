@@ -54,6 +54,8 @@ package org.knime.python3.types.port.ir;
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 public sealed interface PortObjectIntermediateRepresentation extends IntermediateRepresentation
-    permits EmptyIntermediateRepresentation, StringIntermediateRepresentation {
+    permits EmptyIntermediateRepresentation, StringIntermediateRepresentation, BinaryIntermediateRepresentation,
+    FileIntermediateRepresentation, DeltaIntermediateRepresentation, SharedIntermediateRepresentation,
+    SegmentedIntermediateRepresentation, MultipartIntermediateRepresentation {
 
 }
@@ -54,6 +54,6 @@ package org.knime.python3.types.port.ir;
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 public sealed interface PortObjectSpecIntermediateRepresentation extends IntermediateRepresentation
-    permits EmptyIntermediateRepresentation, StringIntermediateRepresentation {
+    permits EmptyIntermediateRepresentation, StringIntermediateRepresentation, BinaryIntermediateRepresentation {
 
 }
@@ -0,0 +1,94 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.ir;
+
+/**
+ * Intermediate representation of a port object payload that is too large for a single String or byte array, or whose
+ * UTF-16 copy would not fit into the heap. The payload is a sequence of bytes, split into an ordered list of segments
+ * of bounded size. Textual payloads are UTF-8 encoded, so a character may span two segments. The receiving side
+ * processes the segments one after the other or accesses ranges by offset, without joining them.
+ *
+ * Must be non-sealed because the Python side also implements it
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public non-sealed interface SegmentedIntermediateRepresentation extends PortObjectIntermediateRepresentation {
+
+    /**
+     * @return the total size of the payload in bytes
+     */
+    long getSize();
+
+    /**
+     * @return the number of segments
+     */
+    int getSegmentCount();
+
+    /**
+     * @param index of the segment
+     * @return the offset of the segment's first byte in the payload
+     */
+    long getSegmentOffset(int index);
+
+    /**
+     * @param index of the segment
+     * @return the bytes of the segment
+     */
+    byte[] getSegment(int index);
+
+    /**
+     * Reads a range of the payload, which may span several segments.
+     *
+     * @param offset of the first byte in the payload
+     * @param length the number of bytes to read
+     * @return the bytes of the range
+     * @throws IndexOutOfBoundsException if the range is not within the payload
+     */
+    byte[] read(long offset, int length);
+}
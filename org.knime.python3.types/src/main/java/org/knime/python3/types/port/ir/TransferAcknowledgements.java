@@ -0,0 +1,274 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.ir;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Actions that run once an intermediate representation has been transferred to the peer, e.g. to publish it or to
+ * free the resources its payload lives in. The transport {@link #acknowledge(IntermediateRepresentation) acknowledges}
+ * every representation it has sent completely, including the parts of multipart representations and the payloads of
+ * wrapping kinds. Representations whose transfer fails are not acknowledged, their release actions run once they are
+ * no longer reachable.
+ *
+ * Actions are registered per instance. An instance that is handed to several holders, e.g. an encoding shared by
+ * concurrent conversions, must be {@link #retain(IntermediateRepresentation) retained} for every further holder, so
+ * that its actions only run once the last holder has acknowledged or discarded it. Actions can't be registered on
+ * instances such as {@link JavaEmptyIntermediateRepresentation#INSTANCE} that are shared without being retained.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class TransferAcknowledgements {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final Map<Key, Actions> ACTIONS = new ConcurrentHashMap<>();
+
+    private TransferAcknowledgements() {
+    }
+
+    /**
+     * Registers an action that runs once the representation has been transferred. It doesn't run if the transfer
+     * fails.
+     *
+     * @param representation the representation, must only be shared by {@link #retain(IntermediateRepresentation)
+     *            retained} holders
+     * @param action to run on the thread that acknowledges the representation
+     */
+    public static void onAcknowledge(final IntermediateRepresentation representation, final Runnable action) {
+        actions(representation).add(action, true);
+    }
+
+    /**
+     * Registers an action that runs once the representation has been transferred or, if that never happens, once it
+     * is no longer reachable. Meant to free resources the payload of the representation depends on.
+     *
+     * @param representation the representation, must only be shared by {@link #retain(IntermediateRepresentation)
+     *            retained} holders
+     * @param action to run on the thread that acknowledges the representation or on a cleaner thread, must not
+     *            reference the representation
+     */
+    public static void onRelease(final IntermediateRepresentation representation, final Runnable action) {
+        actions(representation).add(action, false);
+    }
+
+    /**
+     * Adds a holder to a representation. Its actions, the actions of the representations it consists of and the return
+     * of its pooled buffers are deferred until every holder has acknowledged or discarded it. The acknowledge actions
+     * run if any holder acknowledged it.
+     *
+     * @param <T> the type of the representation
+     * @param representation a representation that the caller holds, i.e. hasn't acknowledged or discarded yet
+     * @return the representation for the new holder
+     * @throws IllegalStateException if the last holder acknowledges or discards the representation concurrently
+     */
+    public static <T extends IntermediateRepresentation> T retain(final T representation) {
+        if (representation != JavaEmptyIntermediateRepresentation.INSTANCE) {
+            actions(representation).retain();
+        }
+        return representation;
+    }
+
+    /**
+     * Signals that the representation has been transferred completely. Runs the registered actions of the
+     * representation and of the representations it consists of and returns pooled buffers to their pool, unless other
+     * {@link #retain(IntermediateRepresentation) holders} still use the representation.
+     *
+     * @param representation that has been transferred
+     */
+    public static void acknowledge(final IntermediateRepresentation representation) {
+        complete(representation, true);
+    }
+
+    /**
+     * Signals that the representation won't be transferred (any more), e.g. because it was only produced to warm up a
+     * converter or because a holder of a {@link PooledBinaryIntermediateRepresentation#retain() retained} copy no
+     * longer needs it. Runs the release actions of the representation and of the representations it consists of and
+     * returns pooled buffers to their pool, unless other {@link #retain(IntermediateRepresentation) holders} still use
+     * the representation.
+     *
+     * @param representation that is no longer needed
+     */
+    public static void discard(final IntermediateRepresentation representation) {
+        complete(representation, false);
+    }
+
+    private static void complete(final IntermediateRepresentation representation, final boolean acknowledged) {
+        final var key = new Key(representation);
+        final var actions = ACTIONS.get(key);
+        if (actions != null && !actions.release(acknowledged)) {
+            // other holders still use the representation
+            return;
+        }
+        if (representation instanceof PooledBinaryIntermediateRepresentation pooled) {
+            pooled.acknowledge();
+        } else if (representation instanceof MultipartIntermediateRepresentation multipart) {
+            multipart.getPartNames().forEach(name -> complete(multipart.getPart(name), acknowledged));
+        } else if (representation instanceof DeltaIntermediateRepresentation delta) {
+            complete(delta.getPayload(), acknowledged);
+        } else if (representation instanceof SharedIntermediateRepresentation shared) {
+            complete(shared.getPayload(), acknowledged);
+        }
+        if (actions != null) {
+            ACTIONS.remove(key, actions);
+            actions.run();
+        }
+    }
+
+    private static Actions actions(final IntermediateRepresentation representation) {
+        if (representation == JavaEmptyIntermediateRepresentation.INSTANCE) {
+            throw new IllegalArgumentException("Actions can't be registered on a shared instance.");
+        }
+        return ACTIONS.computeIfAbsent(new Key(representation), key -> {
+            final var actions = new Actions(key);
+            CLEANER.register(representation, actions::release);
+            return actions;
+        });
+    }
+
+    /**
+     * Identifies a representation by identity without keeping it reachable.
+     */
+    private static final class Key extends WeakReference<IntermediateRepresentation> {
+
+        private final int m_hashCode;
+
+        Key(final IntermediateRepresentation representation) {
+            super(representation);
+            m_hashCode = System.identityHashCode(representation);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            final var referent = get();
+            return obj instanceof Key other && referent != null && referent == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hashCode;
+        }
+    }
+
+    private static final class Actions {
+
+        private final Key m_key;
+
+        private final List<Runnable> m_onAcknowledge = new ArrayList<>();
+
+        private final List<Runnable> m_onRelease = new ArrayList<>();
+
+        /** The number of holders that haven't acknowledged or discarded the representation yet. */
+        private int m_holders = 1;
+
+        private boolean m_acknowledged;
+
+        private boolean m_done;
+
+        Actions(final Key key) {
+            m_key = key;
+        }
+
+        void add(final Runnable action, final boolean onAcknowledge) {
+            synchronized (this) {
+                if (!m_done) {
+                    (onAcknowledge ? m_onAcknowledge : m_onRelease).add(action);
+                    return;
+                }
+            }
+            // acknowledged concurrently, the representation has been transferred before the action was registered
+            action.run();
+        }
+
+        synchronized void retain() {
+            if (m_done || m_holders == 0) {
+                throw new IllegalStateException("The representation has already been acknowledged or discarded.");
+            }
+            m_holders++;
+        }
+
+        /**
+         * @return true if the last holder released the representation
+         */
+        synchronized boolean release(final boolean acknowledged) {
+            m_acknowledged |= acknowledged;
+            return !m_done && m_holders > 0 && --m_holders == 0;
+        }
+
+        /**
+         * Called by the cleaner once the representation is unreachable.
+         */
+        void release() {
+            ACTIONS.remove(m_key, this);
+            run();
+        }
+
+        void run() {
+            final List<Runnable> actions;
+            synchronized (this) {
+                if (m_done) {
+                    return;
+                }
+                m_done = true;
+                actions = new ArrayList<>(m_acknowledged ? m_onAcknowledge : List.of());
+                actions.addAll(m_onRelease);
+            }
+            actions.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.transport;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The index at the start of a multipart message of the {@link RingBufferTransport}. It lists the parts in the order of
+ * their payloads, so the receiving side can decode only the parts it needs without parsing the others.
+ *
+ * The index is encoded little-endian as the number of parts (int) followed by one entry per part: the length of the
+ * UTF-8 encoded name (int), the name, the message kind of the part (int), the offset of its payload relative to the
+ * end of the index (long) and the size of its payload (long). The payloads follow the index without gaps.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class MultipartIndex {
+
+    /**
+     * @param name of the part
+     * @param kind the message kind of the part, see {@link RingBufferTransport}
+     * @param offset of the payload relative to the end of the index
+     * @param size of the payload in bytes
+     */
+    record Entry(String name, int kind, long offset, long size) {
+    }
+
+    private static final int ENTRY_HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    private final List<Entry> m_entries;
+
+    private MultipartIndex(final List<Entry> entries) {
+        m_entries = entries;
+    }
+
+    /**
+     * Lays out the payloads of the parts one after another.
+     *
+     * @param names of the parts
+     * @param kinds the message kinds of the parts
+     * @param sizes of the payloads of the parts
+     * @return the index of the parts
+     */
+    static MultipartIndex layout(final List<String> names, final int[] kinds, final long[] sizes) {
+        final var entries = new ArrayList<Entry>(names.size());
+        long offset = 0;
+        for (int i = 0; i < names.size(); i++) {
+            entries.add(new Entry(names.get(i), kinds[i], offset, sizes[i]));
+            offset += sizes[i];
+        }
+        return new MultipartIndex(List.copyOf(entries));
+    }
+
+    List<Entry> getEntries() {
+        return m_entries;
+    }
+
+    /**
+     * @return the encoded index
+     */
+    ByteBuffer encode() {
+        final var names = m_entries.stream().map(e -> e.name().getBytes(StandardCharsets.UTF_8)).toList();
+        final var size = Integer.BYTES + names.stream().mapToInt(n -> ENTRY_HEADER_SIZE + n.length).sum();
+        final var buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(m_entries.size());
+        for (int i = 0; i < m_entries.size(); i++) {
+            final var entry = m_entries.get(i);
+            buffer.putInt(names.get(i).length).put(names.get(i));
+            buffer.putInt(entry.kind()).putLong(entry.offset()).putLong(entry.size());
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Reads an index from the start of a multipart message.
+     *
+     * @param stream positioned at the start of the message, positioned at the end of the index afterwards
+     * @return the index
+     * @throws IOException if the stream can't be read or doesn't start with a valid index
+     */
+    static MultipartIndex read(final InputStream stream) throws IOException {
+        final var count = readBytes(stream, Integer.BYTES).getInt();
+        if (count < 0) {
+            throw new IOException("Invalid number of parts: " + count);
+        }
+        final var entries = new ArrayList<Entry>(count);
+        for (int i = 0; i < count; i++) {
+            final var nameLength = readBytes(stream, Integer.BYTES).getInt();
+            if (nameLength < 0) {
+                throw new IOException("Invalid length of a part name: " + nameLength);
+            }
+            final var name = new String(readBytes(stream, nameLength).array(), StandardCharsets.UTF_8);
+            final var header = readBytes(stream, ENTRY_HEADER_SIZE - Integer.BYTES);
+            entries.add(new Entry(name, header.getInt(), header.getLong(), header.getLong()));
+        }
+        return new MultipartIndex(List.copyOf(entries));
+    }
+
+    private static ByteBuffer readBytes(final InputStream stream, final int length) throws IOException {
+        final var bytes = stream.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("The multipart message ended within its index.");
+        }
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
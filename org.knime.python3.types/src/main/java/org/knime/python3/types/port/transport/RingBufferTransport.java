@@ -0,0 +1,611 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.transport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.knime.python3.types.port.ir.BinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.DeltaIntermediateRepresentation;
+import org.knime.python3.types.port.ir.EmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.FileBackedPayload;
+import org.knime.python3.types.port.ir.FileIntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentation;
+import org.knime.python3.types.port.ir.IntermediateRepresentationKind;
+import org.knime.python3.types.port.ir.JavaBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaDeltaIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaEmptyIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaFileIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaMultipartIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaReadableBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaReadableStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaSegmentedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaSharedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.JavaStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.MultipartIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PooledBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.PortObjectIntermediateRepresentation;
+import org.knime.python3.types.port.ir.ReadableBinaryIntermediateRepresentation;
+import org.knime.python3.types.port.ir.ReadableStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.SegmentedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.SharedIntermediateRepresentation;
+import org.knime.python3.types.port.ir.StreamingStringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.StringIntermediateRepresentation;
+import org.knime.python3.types.port.ir.TransferAcknowledgements;
+
+/**
+ * Transfers {@link IntermediateRepresentation IntermediateRepresentations} of port objects and specs through a
+ * {@link SharedMemoryRingBuffer} instead of the socket of the gateway. Each instance serves one direction, i.e. the
+ * side that sends uses {@link #send(IntermediateRepresentation)} and the other side {@link #receive()} or
+ * {@link #receiveStreaming()}.
+ *
+ * The kind of a message identifies the kind of the representation: 0 for empty, 1 for string (UTF-8), 2 for binary,
+ * 3 for file (the UTF-8 encoded path), 4 for segmented (the concatenated segments, which the receiving side splits
+ * into segments again without joining them first) and 5 for multipart (an index of the parts followed by their
+ * payloads, see {@link MultipartIndex}). The parts of a multipart message use the codes of string, binary and file.
+ * 6 is a delta: the length of the UTF-8 encoded port key (int), the port key, the revision (long), the base revision
+ * (long) and the message kind of the payload (int), followed by the payload encoded like the body of a message of
+ * that kind. 7 is shared: the length of the UTF-8 encoded share key (int), the share key, 1 for a reference or 0 for
+ * the full representation (byte) and the message kind of the payload (int), followed by the payload as for deltas,
+ * an empty payload for references. The payloads of deltas and shared representations are never deltas or shared
+ * representations themselves. All numbers are little endian. These codes are part of the protocol with the Python
+ * side and must not change.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class RingBufferTransport {
+
+    /**
+     * The kinds of intermediate representations this transport can transfer, to be used in the
+     * {@link IntermediateRepresentationKind#negotiate(java.util.List, java.util.Collection...) negotiation}. Only kinds
+     * with a message kind in the protocol are listed, kinds added later are not advertised until they have one.
+     */
+    public static final Set<IntermediateRepresentationKind> SUPPORTED_REPRESENTATIONS =
+        Set.copyOf(EnumSet.of(IntermediateRepresentationKind.EMPTY, IntermediateRepresentationKind.STRING,
+            IntermediateRepresentationKind.BINARY, IntermediateRepresentationKind.FILE,
+            IntermediateRepresentationKind.SEGMENTED, IntermediateRepresentationKind.MULTIPART,
+            IntermediateRepresentationKind.DELTA, IntermediateRepresentationKind.SHARED));
+
+    private static final int EMPTY = 0;
+
+    private static final int STRING = 1;
+
+    private static final int BINARY = 2;
+
+    private static final int FILE = 3;
+
+    private static final int SEGMENTED = 4;
+
+    private static final int MULTIPART = 5;
+
+    private static final int DELTA = 6;
+
+    private static final int SHARED = 7;
+
+    private final SharedMemoryRingBuffer m_buffer;
+
+    private final Duration m_timeout;
+
+    /** The message returned by {@link #receiveStreaming()} last, which may not have been read to the end. */
+    private SharedMemoryRingBuffer.MessageInputStream m_openMessage;
+
+    /**
+     * @param buffer the ring buffer for the direction served by this transport
+     * @param timeout the maximum time to wait for the peer per frame
+     */
+    public RingBufferTransport(final SharedMemoryRingBuffer buffer, final Duration timeout) {
+        m_buffer = buffer;
+        m_timeout = timeout;
+    }
+
+    /**
+     * Sends a representation to the peer.
+     *
+     * @param representation the representation to send
+     * @throws TimeoutException if the peer doesn't consume the data in time
+     * @throws InterruptedException if the thread is interrupted while waiting for the peer
+     * @throws IllegalArgumentException if the kind of the representation is not supported by the transport
+     * @throws UncheckedIOException if the payload of a {@link FileBackedPayload} can't be read or a
+     *             {@link StreamingStringIntermediateRepresentation} fails to write its content, the peer discards
+     *             the incomplete message
+     * @throws IllegalStateException if an earlier incomplete message could not be aborted, the transport can't be used
+     *             any more in this case
+     */
+    public void send(final IntermediateRepresentation representation)
+        throws TimeoutException, InterruptedException {
+        final var kind = IntermediateRepresentationKind.of(representation)
+            .filter(SUPPORTED_REPRESENTATIONS::contains).orElseThrow(
+                () -> new IllegalArgumentException("Unsupported intermediate representation: " + representation));
+        final var payload = payloadBuffer(representation);
+        if (payload.isPresent()) {
+            m_buffer.write(messageKind(kind), payload.get(), m_timeout);
+        } else {
+            // file-backed, streaming and composite payloads are sent frame by frame without materializing them
+            sendStreamed(messageKind(kind), stream -> writeBody(representation, stream));
+        }
+        // the payload has been copied into the ring buffer, so pooled buffers can go back to the pool
+        TransferAcknowledgements.acknowledge(representation);
+    }
+
+    private static int messageKind(final IntermediateRepresentationKind kind) {
+        return switch (kind) {
+            case EMPTY -> EMPTY;
+            case STRING -> STRING;
+            case BINARY -> BINARY;
+            case FILE -> FILE;
+            case SEGMENTED -> SEGMENTED;
+            case MULTIPART -> MULTIPART;
+            case DELTA -> DELTA;
+            case SHARED -> SHARED;
+        };
+    }
+
+    /**
+     * Writes the content of a message.
+     */
+    @FunctionalInterface
+    private interface MessageContent {
+        void writeTo(SharedMemoryRingBuffer.MessageOutputStream stream) throws IOException;
+    }
+
+    /**
+     * Streams a message to the peer. If the content can't be written completely, the message is aborted, so that the
+     * peer discards the frames it has already received instead of taking the next message for their continuation.
+     */
+    private void sendStreamed(final int kind, final MessageContent content)
+        throws TimeoutException, InterruptedException {
+        final var stream = m_buffer.openMessage(kind, m_timeout);
+        try {
+            content.writeTo(stream);
+            stream.close();
+        } catch (IOException ex) {
+            stream.abort();
+            throw rethrow(ex);
+        } catch (RuntimeException | Error ex) { // NOSONAR rethrown after aborting the message
+            stream.abort();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return the payload of a representation that is held in memory as a whole, or empty if the payload has to be
+     *         streamed
+     */
+    private static Optional<ByteBuffer> payloadBuffer(final IntermediateRepresentation representation) {
+        if (representation instanceof FileBackedPayload
+            || representation instanceof StreamingStringIntermediateRepresentation) {
+            return Optional.empty();
+        } else if (representation instanceof EmptyIntermediateRepresentation) {
+            return Optional.of(ByteBuffer.allocate(0));
+        } else if (representation instanceof StringIntermediateRepresentation string) {
+            return Optional.of(utf8(string.getStringRepresentation()));
+        } else if (representation instanceof PooledBinaryIntermediateRepresentation pooled) {
+            return Optional.of(pooled.getBinaryBuffer());
+        } else if (representation instanceof BinaryIntermediateRepresentation binary) {
+            return Optional.of(ByteBuffer.wrap(binary.getBinaryRepresentation()));
+        } else if (representation instanceof FileIntermediateRepresentation file) {
+            return Optional.of(utf8(file.getFilePath()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the body of a message, i.e. everything after the kind. Also used for the payload of a delta, which is the
+     * last part of its message and therefore written like the body of a message of the payload's kind.
+     */
+    private static void writeBody(final IntermediateRepresentation representation,
+        final SharedMemoryRingBuffer.MessageOutputStream stream) throws IOException {
+        final var payload = payloadBuffer(representation);
+        if (payload.isPresent()) {
+            writeFully(Channels.newChannel(stream), payload.get());
+        } else if (representation instanceof FileBackedPayload fileBacked) {
+            // streamed in chunks instead of mapping the file, which fails for files larger than 2 GB
+            try (var content = fileBacked.openPayload()) {
+                content.transferTo(stream);
+            }
+        } else if (representation instanceof StreamingStringIntermediateRepresentation streaming) {
+            // not closed, that would complete the message before sendStreamed can decide whether to abort it
+            final var writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8); // NOSONAR
+            streaming.writeTo(writer);
+            writer.flush();
+        } else if (representation instanceof SegmentedIntermediateRepresentation segmented) {
+            for (int i = 0; i < segmented.getSegmentCount(); i++) {
+                stream.write(segmented.getSegment(i));
+            }
+        } else if (representation instanceof MultipartIntermediateRepresentation multipart) {
+            writeMultipart(multipart, stream);
+        } else if (representation instanceof DeltaIntermediateRepresentation delta) {
+            writeDelta(delta, stream);
+        } else if (representation instanceof SharedIntermediateRepresentation shared) {
+            writeShared(shared, stream);
+        } else {
+            throw new IllegalArgumentException("Unsupported intermediate representation: " + representation);
+        }
+    }
+
+    private static void writeMultipart(final MultipartIntermediateRepresentation representation,
+        final OutputStream stream) throws IOException {
+        final var names = representation.getPartNames();
+        final var payloads = new ArrayList<PartPayload>(names.size());
+        final var kinds = new int[names.size()];
+        final var sizes = new long[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            final var part = representation.getPart(names.get(i));
+            final var payload = partPayload(names.get(i), part);
+            payloads.add(payload);
+            kinds[i] = partKind(part);
+            sizes[i] = payload.size();
+        }
+        final var channel = Channels.newChannel(stream);
+        writeFully(channel, MultipartIndex.layout(names, kinds, sizes).encode());
+        for (var payload : payloads) {
+            payload.writeTo(stream, channel);
+        }
+    }
+
+    private static void writeDelta(final DeltaIntermediateRepresentation delta,
+        final SharedMemoryRingBuffer.MessageOutputStream stream) throws IOException {
+        final var portKey = delta.getPortKey().getBytes(StandardCharsets.UTF_8);
+        final var payloadKind = payloadKind(delta.getPayload());
+        final var header = ByteBuffer.allocate(Integer.BYTES + portKey.length + 2 * Long.BYTES + Integer.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN).putInt(portKey.length).put(portKey).putLong(delta.getRevision())
+            .putLong(delta.getBaseRevision()).putInt(payloadKind).flip();
+        writeFully(Channels.newChannel(stream), header);
+        writeBody(delta.getPayload(), stream);
+    }
+
+    private static void writeShared(final SharedIntermediateRepresentation shared,
+        final SharedMemoryRingBuffer.MessageOutputStream stream) throws IOException {
+        final var shareKey = shared.getShareKey().getBytes(StandardCharsets.UTF_8);
+        final var payloadKind = payloadKind(shared.getPayload());
+        final var header = ByteBuffer.allocate(Integer.BYTES + shareKey.length + 1 + Integer.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN).putInt(shareKey.length).put(shareKey)
+            .put((byte)(shared.isReference() ? 1 : 0)).putInt(payloadKind).flip();
+        writeFully(Channels.newChannel(stream), header);
+        writeBody(shared.getPayload(), stream);
+    }
+
+    /**
+     * @return the message kind of the payload of a wrapping kind, which must not be a wrapping kind itself
+     */
+    private static int payloadKind(final PortObjectIntermediateRepresentation payload) {
+        return IntermediateRepresentationKind.of(payload)
+            .filter(kind -> !kind.isWrapper() && SUPPORTED_REPRESENTATIONS.contains(kind))
+            .map(RingBufferTransport::messageKind)
+            .orElseThrow(() -> new IllegalArgumentException("Unsupported payload of a wrapping kind: " + payload));
+    }
+
+    /**
+     * The payload of a part of a multipart message, either in memory or streamed from the file that backs it.
+     */
+    private record PartPayload(long size, ByteBuffer buffer, FileBackedPayload file) {
+
+        static PartPayload of(final ByteBuffer buffer) {
+            return new PartPayload(buffer.remaining(), buffer, null);
+        }
+
+        static PartPayload of(final FileBackedPayload file) throws IOException {
+            return new PartPayload(file.getPayloadSize(), null, file);
+        }
+
+        void writeTo(final OutputStream stream, final WritableByteChannel channel) throws IOException {
+            if (buffer != null) {
+                writeFully(channel, buffer);
+                return;
+            }
+            try (var payload = file.openPayload()) {
+                if (payload.transferTo(stream) != size) {
+                    // the index announced a different size, so the message would be corrupt
+                    throw new IOException("The payload of " + file.getPayloadPath() + " changed while sending it.");
+                }
+            }
+        }
+    }
+
+    private static PartPayload partPayload(final String name, final PortObjectIntermediateRepresentation part)
+        throws IOException {
+        if (part instanceof FileBackedPayload fileBacked
+            && (part instanceof StringIntermediateRepresentation || part instanceof BinaryIntermediateRepresentation)) {
+            return PartPayload.of(fileBacked);
+        } else if (part instanceof StringIntermediateRepresentation string) {
+            return PartPayload.of(utf8(string.getStringRepresentation()));
+        } else if (part instanceof PooledBinaryIntermediateRepresentation pooled) {
+            return PartPayload.of(pooled.getBinaryBuffer());
+        } else if (part instanceof BinaryIntermediateRepresentation binary) {
+            return PartPayload.of(ByteBuffer.wrap(binary.getBinaryRepresentation()));
+        } else if (part instanceof FileIntermediateRepresentation file) {
+            return PartPayload.of(utf8(file.getFilePath()));
+        }
+        throw new IllegalArgumentException(
+            "The part '" + name + "' is neither a string, binary nor file representation: " + part);
+    }
+
+    private static int partKind(final PortObjectIntermediateRepresentation part) {
+        if (part instanceof StringIntermediateRepresentation) {
+            return STRING;
+        }
+        return part instanceof BinaryIntermediateRepresentation ? BINARY : FILE;
+    }
+
+    private static void writeFully(final WritableByteChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Receives the next representation from the peer.
+     *
+     * @return the representation or empty if the peer has closed the transport
+     * @throws TimeoutException if the peer doesn't send in time
+     * @throws InterruptedException if the thread is interrupted while waiting for the peer
+     */
+    public Optional<IntermediateRepresentation> receive() throws TimeoutException, InterruptedException {
+        skipOpenMessage();
+        while (true) {
+            final var message = m_buffer.openNextMessage(m_timeout);
+            if (message.isEmpty()) {
+                return Optional.empty();
+            }
+            final var representation = readFully(message.get());
+            if (representation.isPresent()) {
+                return representation;
+            }
+        }
+    }
+
+    /**
+     * Receives the next representation from the peer without waiting for the whole payload. String and binary
+     * payloads are returned as {@link ReadableStringIntermediateRepresentation} or
+     * {@link ReadableBinaryIntermediateRepresentation} that read the frames as they arrive, so decoding can start while
+     * the peer is still sending. Whatever the decoder doesn't read is skipped by the next call to one of the receive
+     * methods, the representation can't be read afterwards. If the peer aborts such a message, reading it fails with a
+     * {@link SharedMemoryRingBuffer.MessageAbortedException}; other aborted messages are skipped.
+     *
+     * @return the representation or empty if the peer has closed the transport
+     * @throws TimeoutException if the peer doesn't send in time
+     * @throws InterruptedException if the thread is interrupted while waiting for the peer
+     */
+    public Optional<IntermediateRepresentation> receiveStreaming() throws TimeoutException, InterruptedException {
+        skipOpenMessage();
+        while (true) {
+            final var message = m_buffer.openNextMessage(m_timeout);
+            if (message.isEmpty()) {
+                return Optional.empty();
+            }
+            final var stream = message.get();
+            final var representation = switch (stream.getKind()) {
+                case STRING -> Optional.of(open(new JavaReadableStringIntermediateRepresentation(stream), stream));
+                case BINARY -> Optional.of(open(new JavaReadableBinaryIntermediateRepresentation(stream), stream));
+                default -> readFully(stream);
+            };
+            if (representation.isPresent()) {
+                return representation;
+            }
+        }
+    }
+
+    private IntermediateRepresentation open(final IntermediateRepresentation representation,
+        final SharedMemoryRingBuffer.MessageInputStream stream) {
+        m_openMessage = stream;
+        return representation;
+    }
+
+    /**
+     * @return the representation or empty if the peer has aborted the message
+     */
+    private static Optional<IntermediateRepresentation> readFully(
+        final SharedMemoryRingBuffer.MessageInputStream stream) throws TimeoutException, InterruptedException {
+        try (stream) {
+            return Optional.of(readBody(stream.getKind(), stream));
+        } catch (SharedMemoryRingBuffer.MessageAbortedException ex) { // NOSONAR the sender has reported the failure
+            return Optional.empty();
+        } catch (IOException ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    /**
+     * Reads the body of a message of the given kind, i.e. everything up to the end of the message.
+     */
+    private static IntermediateRepresentation readBody(final int kind,
+        final SharedMemoryRingBuffer.MessageInputStream stream) throws IOException {
+        return switch (kind) {
+            case SEGMENTED -> {
+                // never joined, so the payload may exceed the size of an array
+                final var builder = JavaSegmentedIntermediateRepresentation.builder();
+                stream.transferTo(builder);
+                yield builder.build();
+            }
+            case MULTIPART -> readMultipart(stream);
+            case DELTA -> readDelta(stream);
+            case SHARED -> readShared(stream);
+            default -> toRepresentation(kind, stream.readAllBytes());
+        };
+    }
+
+    private static IntermediateRepresentation readDelta(final SharedMemoryRingBuffer.MessageInputStream stream)
+        throws IOException {
+        final var portKey = new String(readKey(stream), StandardCharsets.UTF_8);
+        final var header = readHeader(stream, 2 * Long.BYTES + Integer.BYTES);
+        final var revision = header.getLong();
+        final var baseRevision = header.getLong();
+        final var payload = readPayload(header.getInt(), stream);
+        return new JavaDeltaIntermediateRepresentation(portKey, revision, baseRevision, payload);
+    }
+
+    private static IntermediateRepresentation readShared(final SharedMemoryRingBuffer.MessageInputStream stream)
+        throws IOException {
+        final var shareKey = new String(readKey(stream), StandardCharsets.UTF_8);
+        final var header = readHeader(stream, 1 + Integer.BYTES);
+        final var reference = header.get() != 0;
+        final var payload = readPayload(header.getInt(), stream);
+        return reference ? JavaSharedIntermediateRepresentation.reference(shareKey)
+            : JavaSharedIntermediateRepresentation.full(shareKey, payload);
+    }
+
+    /**
+     * Reads the payload of a wrapping kind, which must not be a wrapping kind itself.
+     */
+    private static PortObjectIntermediateRepresentation readPayload(final int kind,
+        final SharedMemoryRingBuffer.MessageInputStream stream) throws IOException {
+        if (kind == DELTA || kind == SHARED
+            || !(readBody(kind, stream) instanceof PortObjectIntermediateRepresentation payload)) {
+            throw new IOException("Invalid kind of the payload of a wrapping kind: " + kind);
+        }
+        return payload;
+    }
+
+    /**
+     * Reads the UTF-8 encoded key at the start of the header of a wrapping kind, preceded by its length.
+     */
+    private static byte[] readKey(final SharedMemoryRingBuffer.MessageInputStream stream) throws IOException {
+        final var length = readHeader(stream, Integer.BYTES).getInt();
+        if (length < 0) {
+            throw new IOException("Invalid length of a key: " + length);
+        }
+        return readHeader(stream, length).array();
+    }
+
+    private static ByteBuffer readHeader(final SharedMemoryRingBuffer.MessageInputStream stream, final int size)
+        throws IOException {
+        final var header = stream.readNBytes(size);
+        if (header.length < size) {
+            throw new IOException("The message ended within its header.");
+        }
+        return ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static IntermediateRepresentation readMultipart(final SharedMemoryRingBuffer.MessageInputStream stream)
+        throws IOException {
+        final var builder = JavaMultipartIntermediateRepresentation.builder();
+        long position = 0;
+        for (var entry : MultipartIndex.read(stream).getEntries()) {
+            if (entry.offset() < position || entry.size() > Integer.MAX_VALUE) {
+                throw new IOException("Invalid offset or size of the part '" + entry.name() + "'.");
+            }
+            stream.skipNBytes(entry.offset() - position);
+            final var payload = stream.readNBytes((int)entry.size());
+            if (payload.length < entry.size()) {
+                throw new IOException("The multipart message ended within the part '" + entry.name() + "'.");
+            }
+            final var part = (PortObjectIntermediateRepresentation)toRepresentation(entry.kind(), payload);
+            builder.addPart(entry.name(), part);
+            position = entry.offset() + entry.size();
+        }
+        return builder.build();
+    }
+
+    private void skipOpenMessage() throws TimeoutException, InterruptedException {
+        if (m_openMessage != null) {
+            final var stream = m_openMessage;
+            m_openMessage = null;
+            try {
+                stream.close();
+            } catch (IOException ex) {
+                throw rethrow(ex);
+            }
+        }
+    }
+
+    /**
+     * Translates the exceptions of the ring buffer's streams back into the exceptions of the transport.
+     */
+    private static RuntimeException rethrow(final IOException ex) throws TimeoutException, InterruptedException {
+        if (ex instanceof InterruptedIOException) {
+            Thread.interrupted(); // NOSONAR the interrupt is passed on as InterruptedException
+            final var interrupted = new InterruptedException(ex.getMessage());
+            interrupted.initCause(ex);
+            throw interrupted;
+        } else if (ex.getCause() instanceof TimeoutException timeout) {
+            throw timeout;
+        }
+        return new UncheckedIOException(ex);
+    }
+
+    private static IntermediateRepresentation toRepresentation(final int kind, final byte[] payload) {
+        return switch (kind) {
+            case EMPTY -> JavaEmptyIntermediateRepresentation.INSTANCE;
+            case STRING -> new JavaStringIntermediateRepresentation(
+                new String(payload, StandardCharsets.UTF_8));
+            case BINARY -> new JavaBinaryIntermediateRepresentation(payload);
+            case FILE -> new JavaFileIntermediateRepresentation(
+                Path.of(new String(payload, StandardCharsets.UTF_8)));
+            default -> throw new IllegalStateException("Unknown message kind: " + kind);
+        };
+    }
+
+    private static ByteBuffer utf8(final String string) {
+        return ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Signals the end of the stream to the peer. Must only be called by the sending side, the buffer itself is closed
+     * by its owner.
+     */
+    public void sendEndOfStream() {
+        m_buffer.markClosed();
+    }
+}
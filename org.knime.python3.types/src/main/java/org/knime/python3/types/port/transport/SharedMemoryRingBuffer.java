@@ -0,0 +1,777 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.port.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A single-producer single-consumer ring buffer in a memory-mapped file, e.g. in /dev/shm, that transfers messages
+ * between two processes without copying them through a socket. One buffer is used per direction.
+ *
+ * <h2>Layout</h2> All numbers are little endian.
+ *
+ * <pre>
+ * offset   size  content
+ * 0        4     magic 0x4B4E5242 ("KNRB"), written last by the creator
+ * 4        4     version (1)
+ * 8        4     capacity of the data region in bytes, a multiple of 8
+ * 16       4     closed flag, set to 1 by the writer after its last message
+ * 64       8     write position, the total number of bytes written to the data region (only written by the writer)
+ * 128      8     read position, the total number of bytes consumed from the data region (only written by the reader)
+ * 192      ...   data region
+ * </pre>
+ *
+ * The positions grow monotonically, the offset in the data region is the position modulo the capacity. The writer
+ * publishes the write position with release semantics after a frame is complete, the reader publishes the read
+ * position after it has copied a frame.
+ *
+ * <h2>Frames</h2> Each frame consists of an int payload length, an int flags field and the payload, padded to a
+ * multiple of 8 bytes. The lowest 8 bits of the flags hold the kind of the message, {@link #FLAG_FINAL} marks the last
+ * frame of a message, so messages that are larger than half of the capacity are split into several frames. A frame
+ * never wraps around the end of the data region; if it doesn't fit, the writer fills the rest of the region with a
+ * frame that has {@link #FLAG_PADDING} set and which the reader skips. If the writer can't complete a message whose
+ * first frames have already been published, it writes an empty frame with {@link #FLAG_ABORT} set, and the reader
+ * discards the message. If not even that frame can be written, the buffer refuses all further writes, because the
+ * reader would take the next message for the continuation of the incomplete one.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class SharedMemoryRingBuffer implements AutoCloseable {
+
+    /** Identifies a ring buffer file. */
+    public static final int MAGIC = 0x4B4E5242;
+
+    /** The version of the layout. */
+    public static final int VERSION = 1;
+
+    /** Marks the last frame of a message. */
+    public static final int FLAG_FINAL = 1 << 8;
+
+    /** Marks a frame that only fills the end of the data region and must be skipped. */
+    public static final int FLAG_PADDING = 1 << 9;
+
+    /** Marks an empty frame that ends a message the writer could not complete. The message must be discarded. */
+    public static final int FLAG_ABORT = 1 << 10;
+
+    /** The bits of the flags that hold the kind of a message. */
+    public static final int KIND_MASK = 0xFF;
+
+    private static final int MAGIC_OFFSET = 0;
+
+    private static final int VERSION_OFFSET = 4;
+
+    private static final int CAPACITY_OFFSET = 8;
+
+    private static final int CLOSED_OFFSET = 16;
+
+    // the positions are on their own cache lines to avoid false sharing between writer and reader
+    private static final int WRITE_POSITION_OFFSET = 64;
+
+    private static final int READ_POSITION_OFFSET = 128;
+
+    private static final int DATA_OFFSET = 192;
+
+    private static final int FRAME_HEADER_SIZE = 8;
+
+    private static final int ALIGNMENT = 8;
+
+    private static final int MIN_CAPACITY = 64;
+
+    private static final int MAX_STREAM_FRAME_LENGTH = 1 << 20;
+
+    private static final int SPINS_BEFORE_PARKING = 1000;
+
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    private static final VarHandle LONG =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path m_path;
+
+    private final FileChannel m_channel;
+
+    private final MappedByteBuffer m_buffer;
+
+    private final int m_capacity;
+
+    private final boolean m_owner;
+
+    /** The writer's or reader's own position, the shared copy is only updated once a frame is complete. */
+    private long m_writePosition;
+
+    private long m_readPosition;
+
+    /** Set by the writer if it could not abort an incomplete message. */
+    private boolean m_broken;
+
+    private SharedMemoryRingBuffer(final Path path, final FileChannel channel, final MappedByteBuffer buffer,
+        final int capacity, final boolean owner) {
+        m_path = path;
+        m_channel = channel;
+        m_buffer = buffer;
+        m_capacity = capacity;
+        m_owner = owner;
+        m_writePosition = (long)LONG.getAcquire(buffer, WRITE_POSITION_OFFSET);
+        m_readPosition = (long)LONG.getAcquire(buffer, READ_POSITION_OFFSET);
+    }
+
+    /**
+     * @return /dev/shm if it exists (i.e. on Linux), otherwise the temporary directory
+     */
+    public static Path getDefaultDirectory() {
+        final var shm = Path.of("/dev/shm");
+        return Files.isDirectory(shm) && Files.isWritable(shm) ? shm : Path.of(System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Creates a new ring buffer file. The file is deleted when the returned buffer is closed.
+     *
+     * @param path of the file, must not exist
+     * @param capacity of the data region in bytes, rounded up to a multiple of 8
+     * @return the ring buffer
+     * @throws IOException if the file can't be created or mapped
+     */
+    public static SharedMemoryRingBuffer create(final Path path, final int capacity) throws IOException {
+        if (capacity < MIN_CAPACITY || capacity > Integer.MAX_VALUE - DATA_OFFSET - ALIGNMENT) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        final var alignedCapacity = align(capacity);
+        final var channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        try {
+            final var buffer = channel.map(MapMode.READ_WRITE, 0, (long)DATA_OFFSET + alignedCapacity);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(VERSION_OFFSET, VERSION);
+            buffer.putInt(CAPACITY_OFFSET, alignedCapacity);
+            INT.setRelease(buffer, CLOSED_OFFSET, 0);
+            LONG.setRelease(buffer, WRITE_POSITION_OFFSET, 0L);
+            LONG.setRelease(buffer, READ_POSITION_OFFSET, 0L);
+            // the magic is written last so that a peer that sees it also sees a complete header
+            INT.setRelease(buffer, MAGIC_OFFSET, MAGIC);
+            return new SharedMemoryRingBuffer(path, channel, buffer, alignedCapacity, true);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+    }
+
+    /**
+     * Opens a ring buffer that has been created by another process.
+     *
+     * @param path of the file
+     * @return the ring buffer
+     * @throws IOException if the file can't be opened or is not a ring buffer of a supported version
+     */
+    public static SharedMemoryRingBuffer open(final Path path) throws IOException {
+        final var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final var header = channel.map(MapMode.READ_WRITE, 0, DATA_OFFSET).order(ByteOrder.LITTLE_ENDIAN);
+            if ((int)INT.getAcquire(header, MAGIC_OFFSET) != MAGIC) {
+                throw new IOException(path + " is not a ring buffer.");
+            }
+            final var version = header.getInt(VERSION_OFFSET);
+            if (version != VERSION) {
+                throw new IOException("Unsupported ring buffer version " + version + " in " + path + ".");
+            }
+            final var capacity = header.getInt(CAPACITY_OFFSET);
+            final var buffer = channel.map(MapMode.READ_WRITE, 0, (long)DATA_OFFSET + capacity);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return new SharedMemoryRingBuffer(path, channel, buffer, capacity, false);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return the path of the file backing the buffer
+     */
+    public Path getPath() {
+        return m_path;
+    }
+
+    /**
+     * @return the capacity of the data region in bytes
+     */
+    public int getCapacity() {
+        return m_capacity;
+    }
+
+    /**
+     * Writes a message, blocking while the buffer is full. Must only be called by the writer of this buffer.
+     *
+     * @param kind of the message, between 0 and 255
+     * @param payload the remaining bytes are written, the position of the payload is not changed
+     * @param timeout the maximum time to wait for free space per frame
+     * @throws TimeoutException if the reader doesn't free enough space in time
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void write(final int kind, final ByteBuffer payload, final Duration timeout)
+        throws TimeoutException, InterruptedException {
+        ensureWritable(kind);
+        // a frame of at most half the capacity always fits, even if the rest of the region has to be padded
+        final var maxFrameLength = m_capacity / 2 - FRAME_HEADER_SIZE;
+        var offset = payload.position();
+        var remaining = payload.remaining();
+        do {
+            final var length = Math.min(remaining, maxFrameLength);
+            final var last = length == remaining;
+            try {
+                writeFrame(kind | (last ? FLAG_FINAL : 0), payload, offset, length, timeout);
+            } catch (TimeoutException | InterruptedException ex) {
+                if (offset > payload.position()) {
+                    abortMessage(kind, timeout);
+                }
+                throw ex;
+            }
+            offset += length;
+            remaining -= length;
+        } while (remaining > 0);
+    }
+
+    /**
+     * Opens a stream that writes a message incrementally, e.g. for payloads whose size is not known upfront. Each time
+     * the stream's frame buffer is full, it is written as frame; closing the stream writes the final frame. Must only
+     * be called by the writer of this buffer, and no other message may be written until the stream is closed or
+     * {@link MessageOutputStream#abort() aborted}. If producing the content fails, the stream must be aborted instead
+     * of closed, so that the reader doesn't receive a truncated message as a complete one.
+     *
+     * @param kind of the message, between 0 and 255
+     * @param timeout the maximum time to wait for free space per frame
+     * @return the stream, which throws an {@link InterruptedIOException} if the thread is interrupted while waiting and
+     *         an {@link IOException} caused by a {@link TimeoutException} if the reader doesn't free enough space in
+     *         time, in which case the stream aborts the message itself
+     */
+    public MessageOutputStream openMessage(final int kind, final Duration timeout) {
+        ensureWritable(kind);
+        return new MessageOutputStream(kind, timeout);
+    }
+
+    private void ensureWritable(final int kind) {
+        if ((kind & ~KIND_MASK) != 0) {
+            throw new IllegalArgumentException("Invalid message kind: " + kind);
+        }
+        if (isClosed()) {
+            throw new IllegalStateException("The ring buffer has been closed by the writer.");
+        }
+        if (m_broken) {
+            throw new IllegalStateException(
+                "The ring buffer can't be written any more, an incomplete message could not be aborted.");
+        }
+    }
+
+    /**
+     * Tells the reader to discard the frames of the current message. If that fails, the buffer is marked as broken.
+     */
+    private void abortMessage(final int kind, final Duration timeout) {
+        try {
+            writeFrame(kind | FLAG_ABORT, ByteBuffer.allocate(0), 0, 0, timeout);
+        } catch (TimeoutException ex) { // NOSONAR the buffer is marked as broken instead
+            m_broken = true;
+        } catch (InterruptedException ex) { // NOSONAR the interrupt is restored
+            m_broken = true;
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeFrame(final int flags, final ByteBuffer payload, final int payloadOffset, final int length,
+        final Duration timeout) throws TimeoutException, InterruptedException {
+        final var frameSize = align(FRAME_HEADER_SIZE + length);
+        var position = m_writePosition;
+        var offset = (int)(position % m_capacity);
+        final var contiguous = m_capacity - offset;
+        final var needed = frameSize <= contiguous ? frameSize : (contiguous + frameSize);
+        awaitFreeSpace(position + needed, timeout);
+        if (frameSize > contiguous) {
+            putFrameHeader(offset, contiguous - FRAME_HEADER_SIZE, FLAG_PADDING);
+            position += contiguous;
+            offset = 0;
+        }
+        putFrameHeader(offset, length, flags);
+        m_buffer.put(DATA_OFFSET + offset + FRAME_HEADER_SIZE, payload, payloadOffset, length);
+        m_writePosition = position + frameSize;
+        LONG.setRelease(m_buffer, WRITE_POSITION_OFFSET, m_writePosition);
+    }
+
+    private void putFrameHeader(final int offset, final int length, final int flags) {
+        m_buffer.putInt(DATA_OFFSET + offset, length);
+        m_buffer.putInt(DATA_OFFSET + offset + 4, flags);
+    }
+
+    private void awaitFreeSpace(final long requiredWritePosition, final Duration timeout)
+        throws TimeoutException, InterruptedException {
+        final var deadline = System.nanoTime() + timeout.toNanos();
+        var spins = 0;
+        while (requiredWritePosition - (long)LONG.getAcquire(m_buffer, READ_POSITION_OFFSET) > m_capacity) {
+            spins = backOff(spins, deadline);
+        }
+    }
+
+    /**
+     * Reads the next message, blocking until one is available. Must only be called by the reader of this buffer.
+     *
+     * @param timeout the maximum time to wait for each frame of the message
+     * @return the message or empty if the writer has closed the buffer and all messages have been read
+     * @throws TimeoutException if no frame arrives in time
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public Optional<Message> read(final Duration timeout) throws TimeoutException, InterruptedException {
+        ByteArrayOutputStream chunks = null;
+        while (true) {
+            if (!awaitFrame(timeout)) {
+                if (chunks != null) {
+                    throw new IllegalStateException("The ring buffer was closed in the middle of a message.");
+                }
+                return Optional.empty();
+            }
+            var offset = (int)(m_readPosition % m_capacity);
+            final var length = m_buffer.getInt(DATA_OFFSET + offset);
+            final var flags = m_buffer.getInt(DATA_OFFSET + offset + 4);
+            if ((flags & FLAG_PADDING) != 0) {
+                consume(FRAME_HEADER_SIZE + length);
+                continue;
+            }
+            if ((flags & FLAG_ABORT) != 0) {
+                consume(align(FRAME_HEADER_SIZE + length));
+                chunks = null;
+                continue;
+            }
+            final var payload = new byte[length];
+            m_buffer.get(DATA_OFFSET + offset + FRAME_HEADER_SIZE, payload);
+            consume(align(FRAME_HEADER_SIZE + length));
+            final var last = (flags & FLAG_FINAL) != 0;
+            if (chunks == null && last) {
+                return Optional.of(new Message(flags & KIND_MASK, payload));
+            }
+            if (chunks == null) {
+                chunks = new ByteArrayOutputStream(2 * length);
+            }
+            chunks.write(payload, 0, length);
+            if (last) {
+                return Optional.of(new Message(flags & KIND_MASK, chunks.toByteArray()));
+            }
+        }
+    }
+
+    /**
+     * Opens the next message as stream, blocking until its first frame is available. The stream reads the frames as
+     * they arrive, so the message can be processed before the writer has finished it. If the writer aborts the message,
+     * the stream throws a {@link MessageAbortedException}. Must only be called by the reader of this buffer, and the
+     * stream must be read to the end or closed before the next message is read.
+     *
+     * @param timeout the maximum time to wait for each frame of the message
+     * @return the message or empty if the writer has closed the buffer and all messages have been read
+     * @throws TimeoutException if no frame arrives in time
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public Optional<MessageInputStream> openNextMessage(final Duration timeout)
+        throws TimeoutException, InterruptedException {
+        if (!awaitDataFrame(timeout)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MessageInputStream(timeout));
+    }
+
+    /**
+     * @return true if a frame with data or an abort frame is available, false if the buffer is closed and drained
+     */
+    private boolean awaitDataFrame(final Duration timeout) throws TimeoutException, InterruptedException {
+        while (awaitFrame(timeout)) {
+            final var offset = (int)(m_readPosition % m_capacity);
+            if ((m_buffer.getInt(DATA_OFFSET + offset + 4) & FLAG_PADDING) == 0) {
+                return true;
+            }
+            consume(FRAME_HEADER_SIZE + m_buffer.getInt(DATA_OFFSET + offset));
+        }
+        return false;
+    }
+
+    /**
+     * @return true if a frame is available, false if the buffer is closed and drained
+     */
+    private boolean awaitFrame(final Duration timeout) throws TimeoutException, InterruptedException {
+        final var deadline = System.nanoTime() + timeout.toNanos();
+        var spins = 0;
+        while ((long)LONG.getAcquire(m_buffer, WRITE_POSITION_OFFSET) == m_readPosition) {
+            if (isClosed()) {
+                // the writer may have written a frame between the two checks
+                return (long)LONG.getAcquire(m_buffer, WRITE_POSITION_OFFSET) != m_readPosition;
+            }
+            spins = backOff(spins, deadline);
+        }
+        return true;
+    }
+
+    private void consume(final int bytes) {
+        m_readPosition += bytes;
+        LONG.setRelease(m_buffer, READ_POSITION_OFFSET, m_readPosition);
+    }
+
+    private static int backOff(final int spins, final long deadline) throws TimeoutException, InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        final var remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new TimeoutException("Timed out waiting for the peer of the ring buffer.");
+        }
+        if (spins < SPINS_BEFORE_PARKING) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(Math.min(remaining, MAX_PARK_NANOS));
+        }
+        return spins + 1;
+    }
+
+    /**
+     * Marks the end of the stream. The reader receives all messages written before and then an empty result. Must only
+     * be called by the writer of this buffer.
+     */
+    public void markClosed() {
+        INT.setRelease(m_buffer, CLOSED_OFFSET, 1);
+    }
+
+    /**
+     * @return true if the writer has marked the end of the stream
+     */
+    public boolean isClosed() {
+        return (int)INT.getAcquire(m_buffer, CLOSED_OFFSET) != 0;
+    }
+
+    /**
+     * Closes the file channel and deletes the file if it has been created by this instance. The mapping itself is
+     * released by the garbage collector.
+     */
+    @Override
+    public void close() throws IOException {
+        m_channel.close();
+        if (m_owner) {
+            Files.deleteIfExists(m_path);
+        }
+    }
+
+    private static int align(final int size) {
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * Writes a message frame by frame. Closing the stream completes the message, {@link #abort() aborting} it tells
+     * the reader to discard it.
+     */
+    public final class MessageOutputStream extends OutputStream {
+
+        private final int m_kind;
+
+        private final Duration m_timeout;
+
+        private final ByteBuffer m_frame;
+
+        /** Whether frames of the message have been published, which the reader then has to discard on abort. */
+        private boolean m_published;
+
+        private boolean m_closed;
+
+        private MessageOutputStream(final int kind, final Duration timeout) {
+            m_kind = kind;
+            m_timeout = timeout;
+            m_frame = ByteBuffer.allocate(Math.min(m_capacity / 2 - FRAME_HEADER_SIZE, MAX_STREAM_FRAME_LENGTH));
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            ensureOpen();
+            if (!m_frame.hasRemaining()) {
+                writeFrame(false);
+            }
+            m_frame.put((byte)b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            ensureOpen();
+            var offset = off;
+            var remaining = len;
+            while (remaining > 0) {
+                // a full frame is only written once more data arrives, so that close() never writes an empty frame
+                // after a full one
+                if (!m_frame.hasRemaining()) {
+                    writeFrame(false);
+                }
+                final var length = Math.min(remaining, m_frame.remaining());
+                m_frame.put(b, offset, length);
+                offset += length;
+                remaining -= length;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!m_closed) {
+                writeFrame(true);
+                m_closed = true;
+            }
+        }
+
+        /**
+         * Discards the message, e.g. because producing its content failed. The reader is told to discard the frames it
+         * may already have received; if that is not possible, the buffer refuses all further writes. Has no effect if
+         * the stream has already been closed or aborted.
+         */
+        public void abort() {
+            if (m_closed) {
+                return;
+            }
+            m_closed = true;
+            if (m_published) {
+                abortMessage(m_kind, m_timeout);
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (m_closed) {
+                throw new IOException("The message has already been written.");
+            }
+        }
+
+        private void writeFrame(final boolean last) throws IOException {
+            try {
+                SharedMemoryRingBuffer.this.writeFrame(m_kind | (last ? FLAG_FINAL : 0), m_frame, 0,
+                    m_frame.position(), m_timeout);
+                m_frame.clear();
+                m_published = true;
+            } catch (InterruptedException ex) {
+                abort();
+                Thread.currentThread().interrupt();
+                final var interrupted = new InterruptedIOException("Interrupted while writing to the ring buffer.");
+                interrupted.initCause(ex);
+                throw interrupted;
+            } catch (TimeoutException ex) {
+                abort();
+                throw new IOException(ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Thrown by a {@link MessageInputStream} if the writer has aborted the message.
+     */
+    public static final class MessageAbortedException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private MessageAbortedException() {
+            super("The writer aborted the message.");
+        }
+    }
+
+    /**
+     * Reads a message frame by frame as the frames arrive. Closing the stream skips the rest of the message. Throws an
+     * {@link InterruptedIOException} if the thread is interrupted while waiting for a frame, an {@link IOException}
+     * caused by a {@link TimeoutException} if no frame arrives in time and a {@link MessageAbortedException} if the
+     * writer aborts the message.
+     */
+    public final class MessageInputStream extends InputStream {
+
+        private final Duration m_timeout;
+
+        private final int m_kind;
+
+        /** The offset of the current frame's payload in the data region. */
+        private int m_frameOffset;
+
+        private int m_frameLength;
+
+        private int m_framePosition;
+
+        private boolean m_lastFrame;
+
+        private boolean m_frameConsumed;
+
+        private boolean m_aborted;
+
+        private MessageInputStream(final Duration timeout) {
+            m_timeout = timeout;
+            m_kind = loadFrame() & KIND_MASK;
+        }
+
+        /**
+         * @return the kind of the message
+         */
+        public int getKind() {
+            return m_kind;
+        }
+
+        private int loadFrame() {
+            final var offset = (int)(m_readPosition % m_capacity);
+            final var flags = m_buffer.getInt(DATA_OFFSET + offset + 4);
+            m_frameOffset = DATA_OFFSET + offset + FRAME_HEADER_SIZE;
+            m_frameLength = m_buffer.getInt(DATA_OFFSET + offset);
+            m_framePosition = 0;
+            m_lastFrame = (flags & FLAG_FINAL) != 0;
+            m_frameConsumed = false;
+            if ((flags & FLAG_ABORT) != 0) {
+                consume(align(FRAME_HEADER_SIZE + m_frameLength));
+                m_frameLength = 0;
+                m_lastFrame = true;
+                m_frameConsumed = true;
+                m_aborted = true;
+            }
+            return flags;
+        }
+
+        /**
+         * @return false if the end of the message has been reached
+         */
+        private boolean ensureData() throws IOException {
+            if (m_aborted) {
+                throw new MessageAbortedException();
+            }
+            while (m_framePosition == m_frameLength) {
+                if (!m_frameConsumed) {
+                    // frees the space for the writer as early as possible
+                    consume(align(FRAME_HEADER_SIZE + m_frameLength));
+                    m_frameConsumed = true;
+                }
+                if (m_lastFrame) {
+                    return false;
+                }
+                try {
+                    if (!awaitDataFrame(m_timeout)) {
+                        throw new IOException("The ring buffer was closed in the middle of a message.");
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    final var interrupted = new InterruptedIOException("Interrupted while reading a message.");
+                    interrupted.initCause(ex);
+                    throw interrupted;
+                } catch (TimeoutException ex) {
+                    throw new IOException(ex.getMessage(), ex);
+                }
+                loadFrame();
+                if (m_aborted) {
+                    throw new MessageAbortedException();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureData()) {
+                return -1;
+            }
+            final var b = m_buffer.get(m_frameOffset + m_framePosition) & 0xFF;
+            m_framePosition++;
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!ensureData()) {
+                return -1;
+            }
+            final var length = Math.min(len, m_frameLength - m_framePosition);
+            m_buffer.get(m_frameOffset + m_framePosition, b, off, length);
+            m_framePosition += length;
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return m_frameLength - m_framePosition;
+        }
+
+        /**
+         * Skips the rest of the message.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                while (ensureData()) {
+                    m_framePosition = m_frameLength;
+                }
+            } catch (MessageAbortedException ex) { // NOSONAR an aborted message has nothing left to skip
+            }
+        }
+    }
+
+    /**
+     * A message read from the ring buffer.
+     *
+     * @param kind of the message
+     * @param payload of the message
+     */
+    public record Message(int kind, byte[] payload) {
+    }
+}
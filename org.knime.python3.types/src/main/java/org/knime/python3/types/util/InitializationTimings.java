@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the time a registry spends in the phases of its initialization, broken down by the bundle that contributes
+ * the extensions that are processed. Allows to find the extensions that make the start of the first Python node slow.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class InitializationTimings {
+
+    /**
+     * Used as contributor for work that concerns the extensions of all bundles, e.g. {@link Phase#VERIFICATION} and
+     * {@link Phase#INDEX_BUILDING}.
+     */
+    public static final String ALL_CONTRIBUTORS = "<all>";
+
+    /**
+     * The phases of the initialization of a registry.
+     */
+    public enum Phase {
+            /** Finding the module path of an extension in its bundle. */
+            MODULE_PATH_RESOLUTION,
+            /** Extracting the module path to the file system if the bundle is a jar. */
+            JAR_EXTRACTION,
+            /** Instantiating the Java classes declared by an extension. */
+            EXECUTABLE_EXTENSION,
+            /** Serializing the data specs and traits of ValueFactories. */
+            SPEC_SERIALIZATION,
+            /** Checking the consistency of the extensions of all bundles. */
+            VERIFICATION,
+            /** Building the lookup structures over the extensions of all bundles. */
+            INDEX_BUILDING;
+    }
+
+    /**
+     * Code whose execution is timed.
+     *
+     * @param <T> the type of the result
+     * @param <E> the type of exception that can be thrown
+     */
+    @FunctionalInterface
+    public interface TimedSupplier<T, E extends Exception> {
+        /**
+         * @return the result
+         * @throws E if the computation fails
+         */
+        T get() throws E;
+    }
+
+    private final Map<String, Map<Phase, Long>> m_nanos = new LinkedHashMap<>();
+
+    /**
+     * Adds to the time spent in a phase for a contributor.
+     *
+     * @param contributor the symbolic name of the contributing bundle
+     * @param phase the phase
+     * @param nanos the time in nanoseconds
+     */
+    public synchronized void add(final String contributor, final Phase phase, final long nanos) {
+        m_nanos.computeIfAbsent(contributor, c -> new EnumMap<>(Phase.class)).merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Runs the supplier and adds the time it took to the given phase, also if it throws.
+     *
+     * @param <T> the type of the result
+     * @param <E> the type of exception that can be thrown
+     * @param contributor the symbolic name of the contributing bundle
+     * @param phase the phase
+     * @param supplier the code to time
+     * @return the result of the supplier
+     * @throws E if thrown by the supplier
+     */
+    public <T, E extends Exception> T time(final String contributor, final Phase phase,
+        final TimedSupplier<T, E> supplier) throws E {
+        final var start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            add(contributor, phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return the contributors in the order in which they were first recorded
+     */
+    public synchronized List<String> getContributors() {
+        return List.copyOf(m_nanos.keySet());
+    }
+
+    /**
+     * @param contributor the symbolic name of the contributing bundle
+     * @param phase the phase
+     * @return the time spent in the phase for the contributor
+     */
+    public synchronized Duration get(final String contributor, final Phase phase) {
+        return Duration.ofNanos(m_nanos.getOrDefault(contributor, Map.of()).getOrDefault(phase, 0L));
+    }
+
+    /**
+     * @param contributor the symbolic name of the contributing bundle
+     * @return the time spent in all phases for the contributor
+     */
+    public synchronized Duration getTotal(final String contributor) {
+        return Duration.ofNanos(
+            m_nanos.getOrDefault(contributor, Map.of()).values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * @param phase the phase
+     * @return the time spent in the phase for all contributors
+     */
+    public synchronized Duration getTotal(final Phase phase) {
+        return Duration
+            .ofNanos(m_nanos.values().stream().mapToLong(phases -> phases.getOrDefault(phase, 0L)).sum());
+    }
+
+    /**
+     * @return a table of the times in milliseconds with one line per contributor, the slowest first
+     */
+    public synchronized String getSummary() {
+        final var contributors = new ArrayList<>(m_nanos.keySet());
+        contributors.sort(Collections.reverseOrder((a, b) -> getTotal(a).compareTo(getTotal(b))));
+        final var sb = new StringBuilder("contributor");
+        for (var phase : Phase.values()) {
+            sb.append(" | ").append(phase);
+        }
+        sb.append(" | TOTAL");
+        for (var contributor : contributors) {
+            sb.append('\n').append(contributor);
+            for (var phase : Phase.values()) {
+                sb.append(" | ").append(toMillis(get(contributor, phase)));
+            }
+            sb.append(" | ").append(toMillis(getTotal(contributor)));
+        }
+        return sb.toString();
+    }
+
+    private static String toMillis(final Duration duration) {
+        return String.format("%.3f", duration.toNanos() / 1e6);
+    }
+}
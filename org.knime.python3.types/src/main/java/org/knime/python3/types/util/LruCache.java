@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.python3.types.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Thread-safe in-memory cache with a fixed capacity that evicts the least recently used entry when it is full. Keeps
+ * track of hits, misses and evictions.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @noreference this class is non-public API and only meant to be used by the Python node framework
+ */
+public final class LruCache<K, V> {
+
+    private final int m_capacity;
+
+    private final LinkedHashMap<K, V> m_entries;
+
+    private long m_hits;
+
+    private long m_misses;
+
+    private long m_evictions;
+
+    /**
+     * @param capacity the maximum number of entries
+     */
+    public LruCache(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive but was " + capacity);
+        }
+        m_capacity = capacity;
+        m_entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                if (size() > m_capacity) {
+                    m_evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the key or computes and caches it if it is absent. The computation happens outside
+     * of the cache's lock, so concurrent misses for the same key may compute the value more than once.
+     *
+     * @param key to look up (must not be null)
+     * @param valueFunction computes the value on a miss (must not return null)
+     * @return the cached or computed value
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> valueFunction) {
+        synchronized (m_entries) {
+            var value = m_entries.get(key);
+            if (value != null) {
+                m_hits++;
+                return value;
+            }
+            m_misses++;
+        }
+        V value = valueFunction.apply(key);
+        synchronized (m_entries) {
+            var existing = m_entries.putIfAbsent(key, value);
+            return existing != null ? existing : value;
+        }
+    }
+
+    /**
+     * @param key to look up
+     * @return the cached value or null if there is none. Counts as hit or miss.
+     */
+    public V get(final K key) {
+        synchronized (m_entries) {
+            var value = m_entries.get(key);
+            if (value != null) {
+                m_hits++;
+            } else {
+                m_misses++;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * @param key of the entry
+     * @param value of the entry (must not be null)
+     */
+    public void put(final K key, final V value) {
+        synchronized (m_entries) {
+            m_entries.put(key, value);
+        }
+    }
+
+    /**
+     * Removes all entries. The statistics are kept.
+     */
+    public void clear() {
+        synchronized (m_entries) {
+            m_entries.clear();
+        }
+    }
+
+    /**
+     * @return a snapshot of the statistics of this cache
+     */
+    public CacheStatistics getStatistics() {
+        synchronized (m_entries) {
+            return new CacheStatistics(m_hits, m_misses, m_evictions, m_entries.size(), m_capacity);
+        }
+    }
+
+    /**
+     * Statistics of a cache.
+     *
+     * @param hits the number of lookups that found a cached value
+     * @param misses the number of lookups that didn't find a cached value
+     * @param evictions the number of entries that were evicted because the cache was full
+     * @param size the current number of entries
+     * @param capacity the maximum number of entries
+     */
+    public record CacheStatistics(long hits, long misses, long evictions, int size, int capacity) {
+
+        /**
+         * @return the fraction of lookups that were hits or 0 if there were no lookups yet
+         */
+        public double hitRate() {
+            var lookups = hits + misses;
+            return lookups == 0 ? 0 : (hits / (double)lookups);
+        }
+    }
+}